@@ -0,0 +1,128 @@
+package com.chess.bench;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures operations in the manner of a JMH average time benchmark with the
+ * gc profiler: each operation is warmed up, then run repeatedly for a fixed
+ * time while recording nanoseconds per operation, bytes allocated per
+ * operation, the allocation rate and the number of garbage collections.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class BenchmarkRunner {
+
+	private static volatile long sink; //Consumes the operation results
+
+	private final long warmupNanos;
+	private final long measurementNanos;
+	private final String filter;
+	private final PrintStream out;
+	private final com.sun.management.ThreadMXBean allocationCounter;
+
+	/**
+	 * Constructor for BenchmarkRunner objects
+	 *
+	 * @param warmupMillis		Time spent running each operation before measuring it
+	 * @param measurementMillis	Time spent measuring each operation
+	 * @param filter			Only benchmarks whose name contains this text are run, null runs all of them
+	 * @param out				Stream to print the results to
+	 */
+	public BenchmarkRunner(long warmupMillis, long measurementMillis, String filter, PrintStream out) {
+		this.warmupNanos = warmupMillis * 1000000;
+		this.measurementNanos = measurementMillis * 1000000;
+		this.filter = filter;
+		this.out = out;
+
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+		if(threadBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+			this.allocationCounter = (com.sun.management.ThreadMXBean) threadBean;
+			this.allocationCounter.setThreadAllocatedMemoryEnabled(true);
+		}
+		else {
+			this.allocationCounter = null;
+		}
+	}
+
+	/**
+	 * Prints the header of the results table
+	 */
+	public void printHeader() {
+		out.println(String.format("%-44s %-12s %14s %12s %10s %6s", "Benchmark", "Position", "ns/op", "B/op", "MB/s", "GCs"));
+	}
+
+	/**
+	 * Warms up and measures a single operation, printing its results
+	 *
+	 * @param name		Name of the benchmark
+	 * @param position	Name of the position the operation runs on
+	 * @param operation	The operation to measure
+	 */
+	public void measure(String name, String position, Operation operation) {
+		if(filter != null && !name.contains(filter)) {
+			return;
+		}
+		runFor(operation, warmupNanos);
+
+		long gcCountBefore = collectionCount();
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		long operations = runFor(operation, measurementNanos);
+		long elapsed = System.nanoTime() - start;
+		long allocated = allocatedBytes() - allocatedBefore;
+		long gcCount = collectionCount() - gcCountBefore;
+
+		double nanosPerOperation = (double) elapsed / operations;
+		double bytesPerOperation = (double) allocated / operations;
+		double megabytesPerSecond = allocated / (elapsed / 1e9) / (1024 * 1024);
+
+		out.println(String.format("%-44s %-12s %14.1f %12.1f %10.1f %6d", name, position, nanosPerOperation,
+				allocationCounter == null ? Double.NaN : bytesPerOperation,
+				allocationCounter == null ? Double.NaN : megabytesPerSecond, gcCount));
+	}
+
+	/**
+	 * Runs the operation in batches until the time has passed
+	 *
+	 * @return The number of times the operation was run
+	 */
+	private long runFor(Operation operation, long nanoseconds) {
+		long deadline = System.nanoTime() + nanoseconds;
+		long operations = 0;
+		long result = 0;
+		int batch = 1;
+
+		do {
+			for(int i = 0; i < batch; i++) {
+				result += operation.run();
+			}
+			operations += batch;
+
+			//Grow the batch so the clock is read rarely for fast operations
+			if(batch < 1024) {
+				batch *= 2;
+			}
+		} while(System.nanoTime() < deadline);
+
+		sink += result;
+		return operations;
+	}
+
+	private long allocatedBytes() {
+		return allocationCounter == null ? 0 : allocationCounter.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static long collectionCount() {
+		long count = 0;
+
+		for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, collector.getCollectionCount());
+		}
+		return count;
+	}
+}
@@ -0,0 +1,18 @@
+package com.chess.bench;
+
+/**
+ * A single benchmarked operation. The returned value is consumed by the
+ * runner so the JIT compiler can't discard the work being measured.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public interface Operation {
+
+	/**
+	 * Performs the operation once
+	 *
+	 * @return Any value derived from the work done
+	 */
+	long run();
+}
@@ -0,0 +1,144 @@
+package com.chess.bench;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import com.chess.engine.Game;
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+import com.chess.enums.GameStatus;
+import com.chess.enums.PieceColor;
+import com.chess.notation.PgnGame;
+import com.chess.notation.PgnReader;
+import com.chess.notation.San;
+
+/**
+ * Measures how fast PgnReader reads and decodes an archive. Without a file,
+ * an archive of random games is written to a temporary file first. Run from
+ * the command line:
+ *
+ *   PgnBenchmarks [--games N] [--repeat N] [file.pgn]
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PgnBenchmarks {
+
+	private static final int MAX_PLIES = 160; //Length at which a random game is cut short
+
+	public static void main(String[] args) throws IOException {
+		int games = 20000;
+		int repeat = 5;
+		Path file = null;
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--games") && i + 1 < args.length) {
+				games = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--repeat") && i + 1 < args.length) {
+				repeat = Integer.parseInt(args[++i]);
+			}
+			else {
+				file = Paths.get(args[i]);
+			}
+		}
+		boolean temporary = file == null;
+
+		if(temporary) {
+			file = Files.createTempFile("games", ".pgn");
+			writeRandomGames(file, games, new Random(1));
+		}
+		try {
+			for(int i = 0; i < repeat; i++) {
+				read(file, System.out);
+			}
+		} finally {
+			if(temporary) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	/**
+	 * Reads every game of the archive, printing the counts and throughput
+	 *
+	 * @param file	The archive to read
+	 * @param out	Stream to print the results to
+	 */
+	public static void read(Path file, PrintStream out) throws IOException {
+		long start = System.nanoTime();
+		long games = 0;
+		long moves = 0;
+		long illegalGames = 0;
+		PgnReader reader = PgnReader.open(file);
+		PgnGame game = new PgnGame();
+
+		try {
+			while(reader.readGame(game)) {
+				games++;
+				moves += game.getMoveCount();
+
+				if(!game.isLegal()) {
+					illegalGames++;
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		long elapsed = System.nanoTime() - start;
+		out.println(String.format("%d games, %d moves, %d illegal, %.1f MB in %d ms: %.0f moves/s, %.1f MB/s",
+				games, moves, illegalGames, reader.getBytesRead() / 1e6, elapsed / 1000000,
+				moves / (elapsed / 1e9), reader.getBytesRead() / 1e6 / (elapsed / 1e9)));
+	}
+
+	/**
+	 * Writes games of random legal moves, with tags, move numbers and the odd
+	 * comment, ending each at checkmate, a draw or the length limit
+	 */
+	private static void writeRandomGames(Path file, int games, Random random) throws IOException {
+		Writer out = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1);
+		StringBuilder san = new StringBuilder();
+		MoveList legalMoves = new MoveList();
+
+		try {
+			for(int i = 0; i < games; i++) {
+				Game game = new Game();
+				Position position = game.getPosition();
+
+				out.write("[Event \"Random game\"]\n[Site \"?\"]\n[Round \"" + (i + 1) + "\"]\n[White \"Random\"]\n[Black \"Random\"]\n");
+				StringBuilder movetext = new StringBuilder();
+
+				for(int ply = 0; ply < MAX_PLIES && !game.isGameOver(); ply++) {
+					legalMoves.clear();
+					MoveGenerator.generateLegalMoves(position, legalMoves);
+					int move = legalMoves.get(random.nextInt(legalMoves.size()));
+
+					if(ply % 2 == 0) {
+						movetext.append(ply / 2 + 1).append(". ");
+					}
+					san.setLength(0);
+					movetext.append(San.write(position, move, legalMoves, san)).append(' ');
+
+					if(random.nextInt(50) == 0) {
+						movetext.append("{ a comment } ");
+					}
+					game.applyMove(Move.decode(move));
+				}
+				String result = game.getStatus() != GameStatus.CHECKMATE ? (game.isGameOver() ? "1/2-1/2" : "*")
+						: game.getWinner() == PieceColor.WHITE ? "1-0" : "0-1";
+
+				out.write("[Result \"" + result + "\"]\n\n" + movetext + result + "\n\n");
+			}
+		} finally {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,247 @@
+package com.chess.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.chess.VerificationHelper;
+import com.chess.engine.BoardAdapter;
+import com.chess.engine.Game;
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+import com.chess.enums.PieceColor;
+import com.chess.evaluation.Evaluator;
+import com.chess.notation.Fen;
+import com.chess.pieces.Bishop;
+import com.chess.pieces.ChessPiece;
+import com.chess.pieces.King;
+import com.chess.pieces.Knight;
+import com.chess.pieces.Pawn;
+import com.chess.pieces.Queen;
+import com.chess.pieces.Rook;
+
+/**
+ * Benchmarks of the rules engine hot paths on an opening, a middlegame and an
+ * endgame position. Run from the command line:
+ *
+ *   RulesEngineBenchmarks [--warmup ms] [--time ms] [filter]
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class RulesEngineBenchmarks {
+
+	private static final String[] POSITION_NAMES = {"opening", "middlegame", "endgame"};
+
+	private static final String[] POSITIONS = {
+		"r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3",
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"2r3k1/5pp1/4n2p/3q4/8/1P2BNP1/3R1QKP/8 w - - 0 1"
+	};
+
+	public static void main(String[] args) {
+		long warmup = 1000;
+		long time = 2000;
+		String filter = null;
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--warmup") && i + 1 < args.length) {
+				warmup = Long.parseLong(args[++i]);
+			}
+			else if(args[i].equals("--time") && i + 1 < args.length) {
+				time = Long.parseLong(args[++i]);
+			}
+			else {
+				filter = args[i];
+			}
+		}
+		BenchmarkRunner runner = new BenchmarkRunner(warmup, time, filter, System.out);
+		runner.printHeader();
+
+		for(int i = 0; i < POSITIONS.length; i++) {
+			Position position = Fen.parse(POSITIONS[i]);
+			ChessPiece[][] referenceGrid = BoardAdapter.toReferenceGrid(position);
+			PieceColor playerTurn = BoardAdapter.toPieceColor(position.getSideToMove());
+
+			for(int type = Position.PAWN; type <= Position.KING; type++) {
+				runner.measure("VerificationHelper.findLegal" + typeName(type) + "Movements", POSITION_NAMES[i],
+						findLegalMovements(referenceGrid, playerTurn, type));
+			}
+			runner.measure("VerificationHelper.checkForCheckmate", POSITION_NAMES[i], checkForCheckmate(referenceGrid, playerTurn));
+			runner.measure("VerificationHelper.isKingInCheck", POSITION_NAMES[i], isKingInCheck(referenceGrid, playerTurn));
+			runner.measure("MoveGenerator.generateLegalMoves", POSITION_NAMES[i], generateLegalMoves(position));
+			runner.measure("MoveGenerator.getStatus", POSITION_NAMES[i], getStatus(position));
+			runner.measure("Position.makeMove+unmakeMove", POSITION_NAMES[i], makeAndUnmakeMoves(position));
+			runner.measure("Game.applyMove+undoMove", POSITION_NAMES[i], applyAndUndoMoves(new Game(Fen.parse(POSITIONS[i]))));
+			runner.measure("Fen.parse", POSITION_NAMES[i], parseFen(POSITIONS[i]));
+			runner.measure("Fen.write", POSITION_NAMES[i], writeFen(position));
+			runner.measure("Evaluator.evaluate", POSITION_NAMES[i], evaluate(position));
+		}
+	}
+
+	/**
+	 * Finds the moves of every piece of the given type belonging to the player to move
+	 */
+	private static Operation findLegalMovements(final ChessPiece[][] referenceGrid, PieceColor playerTurn, int type) {
+		final List<ChessPiece> pieces = new ArrayList<ChessPiece>();
+
+		for(int i = 0; i < 8; i++) {
+			for(int j = 0; j < 8; j++) {
+				ChessPiece piece = referenceGrid[i][j];
+
+				if(piece != null && piece.isPieceWhite() == (playerTurn == PieceColor.WHITE) && BoardAdapter.typeOf(piece) == type) {
+					pieces.add(piece);
+				}
+			}
+		}
+		final ArrayList<int[]> positionsFound = new ArrayList<int[]>();
+
+		return new Operation() {
+			@Override
+			public long run() {
+				positionsFound.clear();
+
+				for(ChessPiece piece : pieces) {
+					if(piece instanceof Pawn)
+						VerificationHelper.findLegalPawnMovements((Pawn)piece, referenceGrid, positionsFound);
+					else if(piece instanceof Knight)
+						VerificationHelper.findLegalKnightMovements((Knight)piece, referenceGrid, positionsFound);
+					else if(piece instanceof Bishop)
+						VerificationHelper.findLegalBishopMovements((Bishop)piece, referenceGrid, positionsFound);
+					else if(piece instanceof Rook)
+						VerificationHelper.findLegalRookMovements((Rook)piece, referenceGrid, positionsFound);
+					else if(piece instanceof Queen)
+						VerificationHelper.findLegalQueenMovements((Queen)piece, referenceGrid, positionsFound);
+					else if(piece instanceof King)
+						VerificationHelper.findLegalKingMovements((King)piece, referenceGrid, positionsFound);
+				}
+				return positionsFound.size();
+			}
+		};
+	}
+
+	private static Operation checkForCheckmate(final ChessPiece[][] referenceGrid, final PieceColor playerTurn) {
+		return new Operation() {
+			@Override
+			public long run() {
+				return VerificationHelper.checkForCheckmate(referenceGrid, playerTurn) ? 1 : 0;
+			}
+		};
+	}
+
+	private static Operation isKingInCheck(final ChessPiece[][] referenceGrid, final PieceColor playerTurn) {
+		return new Operation() {
+			@Override
+			public long run() {
+				return VerificationHelper.isKingInCheck(referenceGrid, playerTurn) ? 1 : 0;
+			}
+		};
+	}
+
+	private static Operation generateLegalMoves(final Position position) {
+		final MoveList moves = new MoveList();
+
+		return new Operation() {
+			@Override
+			public long run() {
+				moves.clear();
+				return MoveGenerator.generateLegalMoves(position, moves).size();
+			}
+		};
+	}
+
+	private static Operation getStatus(final Position position) {
+		return new Operation() {
+			@Override
+			public long run() {
+				return MoveGenerator.getStatus(position).ordinal();
+			}
+		};
+	}
+
+	/**
+	 * Applies and takes back every legal move of the position
+	 */
+	private static Operation makeAndUnmakeMoves(final Position position) {
+		final MoveList moves = MoveGenerator.generateLegalMoves(position, new MoveList());
+
+		return new Operation() {
+			@Override
+			public long run() {
+				long result = 0;
+
+				for(int i = 0; i < moves.size(); i++) {
+					position.makeMove(moves.get(i));
+					result += position.getOccupied();
+					position.unmakeMove();
+				}
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * Plays and takes back every legal move of the game, including the status
+	 * update the board display relies on after each move
+	 */
+	private static Operation applyAndUndoMoves(final Game game) {
+		final List<Move> moves = new ArrayList<Move>(game.getLegalMoves());
+
+		return new Operation() {
+			@Override
+			public long run() {
+				long result = 0;
+
+				for(Move move : moves) {
+					game.applyMove(move);
+					result += game.getStatus().ordinal();
+					game.undoMove();
+				}
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * Reads the FEN record into the same position every time
+	 */
+	private static Operation parseFen(final String fen) {
+		final Position position = new Position();
+
+		return new Operation() {
+			@Override
+			public long run() {
+				return Fen.parse(fen, position).getHash();
+			}
+		};
+	}
+
+	private static Operation writeFen(final Position position) {
+		final StringBuilder out = new StringBuilder();
+
+		return new Operation() {
+			@Override
+			public long run() {
+				out.setLength(0);
+				return Fen.write(position, out).length();
+			}
+		};
+	}
+
+	private static Operation evaluate(final Position position) {
+		final Evaluator evaluator = new Evaluator();
+
+		return new Operation() {
+			@Override
+			public long run() {
+				return evaluator.evaluate(position);
+			}
+		};
+	}
+
+	private static String typeName(int type) {
+		String[] names = {"Pawn", "Knight", "Bishop", "Rook", "Queen", "King"};
+		return names[type];
+	}
+}
@@ -0,0 +1,115 @@
+package com.chess.bench;
+
+import java.io.PrintStream;
+
+import com.chess.notation.Fen;
+import com.chess.search.ParallelSearcher;
+import com.chess.search.SearchLimits;
+import com.chess.search.SearchResult;
+import com.chess.search.TranspositionTable;
+
+/**
+ * Measures how the parallel search scales with the number of threads: every
+ * position is searched to a fixed depth with an empty transposition table,
+ * recording the time to reach the depth and the nodes searched per second.
+ * Run from the command line:
+ *
+ *   SearchBenchmarks [--depth N] [--hash MB] [--threads N,N,...]
+ *
+ * The thread counts default to the powers of two up to the number of cores,
+ * and the speedup compares each time to depth with the first thread count's.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class SearchBenchmarks {
+
+	private static final String[] POSITION_NAMES = {"opening", "middlegame", "endgame"};
+
+	private static final String[] POSITIONS = {
+		"r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3",
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"2r3k1/5pp1/4n2p/3q4/8/1P2BNP1/3R1QKP/8 w - - 0 1"
+	};
+
+	public static void main(String[] args) {
+		int depth = 6;
+		int hashMegabytes = 64;
+		int[] threadCounts = defaultThreadCounts();
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--depth") && i + 1 < args.length) {
+				depth = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--hash") && i + 1 < args.length) {
+				hashMegabytes = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--threads") && i + 1 < args.length) {
+				String[] counts = args[++i].split(",");
+				threadCounts = new int[counts.length];
+
+				for(int j = 0; j < counts.length; j++) {
+					threadCounts[j] = Integer.parseInt(counts[j].trim());
+				}
+			}
+			else {
+				System.err.println("Usage: SearchBenchmarks [--depth N] [--hash MB] [--threads N,N,...]");
+				System.exit(2);
+			}
+		}
+		run(depth, hashMegabytes, threadCounts, System.out);
+	}
+
+	/**
+	 * Searches every position to the depth with each thread count, printing the results
+	 *
+	 * @param depth			Depth every search must complete
+	 * @param hashMegabytes	Size of the transposition table
+	 * @param threadCounts	Number of threads to measure
+	 * @param out			Stream to print the results to
+	 */
+	public static void run(int depth, int hashMegabytes, int[] threadCounts, PrintStream out) {
+		out.println(String.format("%-8s %-12s %6s %12s %14s %10s %8s", "Threads", "Position", "Depth", "ms", "Nodes", "Nodes/s", "Speedup"));
+		TranspositionTable transpositionTable = new TranspositionTable(hashMegabytes);
+		long[] singleThreadMillis = new long[POSITIONS.length];
+
+		//Warm up the compiler so the first measurement isn't interpreted
+		ParallelSearcher warmup = new ParallelSearcher(1, transpositionTable);
+		warmup.search(Fen.parse(POSITIONS[0]), SearchLimits.depth(Math.max(1, depth - 1)));
+		warmup.shutdown();
+
+		for(int threads : threadCounts) {
+			ParallelSearcher searcher = new ParallelSearcher(threads, transpositionTable);
+
+			for(int i = 0; i < POSITIONS.length; i++) {
+				transpositionTable.clear();
+
+				long start = System.nanoTime();
+				SearchResult result = searcher.search(Fen.parse(POSITIONS[i]), SearchLimits.depth(depth));
+				long millis = Math.max(1, (System.nanoTime() - start) / 1000000);
+
+				if(threads == threadCounts[0]) {
+					singleThreadMillis[i] = millis;
+				}
+				out.println(String.format("%-8d %-12s %6d %12d %14d %10d %8.2f", threads, POSITION_NAMES[i], result.getDepth(),
+						millis, result.getNodes(), result.getNodes() * 1000 / millis, (double) singleThreadMillis[i] / millis));
+			}
+			searcher.shutdown();
+		}
+	}
+
+	private static int[] defaultThreadCounts() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int count = 1;
+
+		for(int threads = 2; threads <= cores; threads *= 2) {
+			count++;
+		}
+		int[] threadCounts = new int[count];
+
+		for(int i = 0; i < count; i++) {
+			threadCounts[i] = 1 << i;
+		}
+		return threadCounts;
+	}
+}
@@ -0,0 +1,360 @@
+package com.chess;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+import com.chess.engine.Move;
+import com.chess.engine.Position;
+import com.chess.pieces.PieceSprites;
+
+/**
+ * Chess board painted as a single component, an alternative to the grid of
+ * buttons. The board is drawn into a backing VolatileImage with piece sprites
+ * scaled once for the current square size, clicks are mapped to squares by
+ * coordinate math and moves can be animated. Only the squares that change are
+ * repainted, and painting a frame allocates no objects of its own, so the
+ * board resizes freely and animates smoothly.
+ *
+ * Date: 10/17/2026
+ */
+public class BoardView extends JComponent {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Color DARK_SQUARE = Color.BLACK;
+	private static final Color LIGHT_SQUARE = Color.WHITE;
+	private static final Color HIGHLIGHT = Color.YELLOW;
+
+	private static final long ANIMATION_NANOS = 200000000L; //Time taken by a piece to slide to its target square
+	private static final int FRAME_MILLIS = 16; //Delay between animation frames, about 60 frames per second
+	private static final double SPRITE_SCALE = 0.8; //Share of a square taken by the longer side of a sprite
+
+	/**
+	 * Listener notified when a square of the board is clicked
+	 */
+	public interface SquareListener {
+
+		/**
+		 * @param square	The square clicked
+		 */
+		void squareClicked(int square);
+	}
+
+	private final int[] pieces = new int[64]; //Piece code displayed on every square
+	private long highlightedSquares; //Squares framed to show the selected piece's legal moves
+	private SquareListener squareListener;
+
+	private final BufferedImage[] scaledSprites = new BufferedImage[12]; //Piece sprites scaled to the square size, by piece code
+	private int spriteSquareSize; //Square size the sprites were scaled for
+	private VolatileImage backBuffer;
+	private Graphics2D backBufferGraphics; //Drawing context of the back buffer, replaced only along with it
+	private final Rectangle clip = new Rectangle(); //Region being painted, reused every frame
+
+	private int boardX; //Left edge of the board within the component
+	private int boardY; //Top edge of the board within the component
+	private int squareSize;
+
+	private final Timer animationTimer;
+	private int animatedPiece = Position.EMPTY; //Piece sliding across the board, EMPTY when none is
+	private int animationFrom;
+	private int animationTo;
+	private long animationStart;
+	private int animatedX; //Where the sliding piece's square was last painted
+	private int animatedY;
+
+	/**
+	 * Constructor for BoardView objects showing an empty board
+	 */
+	public BoardView() {
+		for(int square = 0; square < 64; square++) {
+			pieces[square] = Position.EMPTY;
+		}
+		setOpaque(true);
+		setPreferredSize(new Dimension(640, 640));
+
+		addMouseListener(new MouseAdapter() {
+			@Override
+			public void mousePressed(MouseEvent e) {
+				int square = squareAt(e.getX(), e.getY());
+
+				if(isEnabled() && squareListener != null && square != Position.NO_SQUARE) {
+					squareListener.squareClicked(square);
+				}
+			}
+		});
+
+		animationTimer = new Timer(FRAME_MILLIS, new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				stepAnimation();
+			}
+		});
+	}
+
+	/**
+	 * @param squareListener	Listener notified of the squares clicked
+	 */
+	public void setSquareListener(SquareListener squareListener) {
+		this.squareListener = squareListener;
+	}
+
+	/**
+	 * Displays a piece on a square, repainting the square if it changed
+	 *
+	 * @param square	The square to update
+	 * @param piece		Piece code to display, or EMPTY
+	 */
+	public void setPiece(int square, int piece) {
+		if(pieces[square] != piece) {
+			pieces[square] = piece;
+			repaintSquare(square);
+		}
+	}
+
+	/**
+	 * Frames the given squares, repainting only the squares whose frame changed
+	 *
+	 * @param squares	Bitboard of the squares to frame
+	 */
+	public void setHighlightedSquares(long squares) {
+		long changed = highlightedSquares ^ squares;
+		highlightedSquares = squares;
+
+		while(changed != 0) {
+			repaintSquare(Long.numberOfTrailingZeros(changed));
+			changed &= changed - 1;
+		}
+	}
+
+	/**
+	 * Slides the piece of a move that has already been displayed from its
+	 * origin to its target square
+	 *
+	 * @param move	The move to animate
+	 */
+	public void animateMove(Move move) {
+		if(animatedPiece != Position.EMPTY) {
+			repaint(animatedX, animatedY, squareSize, squareSize);
+		}
+		animatedPiece = pieces[move.getTo()];
+		animationFrom = move.getFrom();
+		animationTo = move.getTo();
+		animationStart = System.nanoTime();
+		animatedX = squareX(animationFrom);
+		animatedY = squareY(animationFrom);
+
+		if(animatedPiece == Position.EMPTY) {
+			return;
+		}
+		repaint(animatedX, animatedY, squareSize, squareSize);
+		repaintSquare(animationTo);
+		animationTimer.restart();
+	}
+
+	/**
+	 * Moves the animated piece to its place for the current time and repaints
+	 * the squares it left and entered
+	 */
+	private void stepAnimation() {
+		repaint(animatedX, animatedY, squareSize, squareSize);
+
+		if(System.nanoTime() - animationStart >= ANIMATION_NANOS) {
+			animationTimer.stop();
+			animatedPiece = Position.EMPTY;
+			repaintSquare(animationTo);
+			return;
+		}
+		updateAnimatedLocation();
+		repaint(animatedX, animatedY, squareSize, squareSize);
+	}
+
+	private void updateAnimatedLocation() {
+		double progress = Math.min(1.0, (double) (System.nanoTime() - animationStart) / ANIMATION_NANOS);
+		double eased = progress * (2 - progress); //Slow down towards the target square
+
+		animatedX = (int) Math.round(squareX(animationFrom) + (squareX(animationTo) - squareX(animationFrom)) * eased);
+		animatedY = (int) Math.round(squareY(animationFrom) + (squareY(animationTo) - squareY(animationFrom)) * eased);
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		updateLayout();
+		g.getClipBounds(clip);
+
+		if(clip.isEmpty()) {
+			clip.setBounds(0, 0, getWidth(), getHeight());
+		}
+
+		do {
+			if(!validateBackBuffer()) {
+				//The component isn't displayable yet, so paint directly
+				render((Graphics2D) g);
+				return;
+			}
+			backBufferGraphics.setClip(clip);
+			render(backBufferGraphics);
+
+			g.drawImage(backBuffer, clip.x, clip.y, clip.x + clip.width, clip.y + clip.height,
+					clip.x, clip.y, clip.x + clip.width, clip.y + clip.height, null);
+		} while(backBuffer.contentsLost());
+	}
+
+	/**
+	 * Creates or restores the back buffer for the component's current size
+	 *
+	 * @return Whether a usable back buffer is available
+	 */
+	private boolean validateBackBuffer() {
+		GraphicsConfiguration configuration = getGraphicsConfiguration();
+
+		if(configuration == null) {
+			return false;
+		}
+		int state = backBuffer == null || backBuffer.getWidth() != getWidth() || backBuffer.getHeight() != getHeight()
+				? VolatileImage.IMAGE_INCOMPATIBLE : backBuffer.validate(configuration);
+
+		if(state == VolatileImage.IMAGE_INCOMPATIBLE) {
+			if(backBuffer != null) {
+				backBuffer.flush();
+			}
+			backBuffer = createVolatileImage(Math.max(1, getWidth()), Math.max(1, getHeight()));
+		}
+
+		//A new or restored buffer holds nothing, so everything must be painted with a fresh context
+		if(state != VolatileImage.IMAGE_OK) {
+			clip.setBounds(0, 0, getWidth(), getHeight());
+
+			if(backBufferGraphics != null) {
+				backBufferGraphics.dispose();
+			}
+			backBufferGraphics = backBuffer == null ? null : backBuffer.createGraphics();
+		}
+		return backBuffer != null;
+	}
+
+	/**
+	 * Paints the squares within the clip, their pieces and the sliding piece
+	 */
+	private void render(Graphics2D g) {
+		g.setColor(getBackground());
+		g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+		int frame = Math.max(2, squareSize / 16);
+
+		for(int square = 0; square < 64; square++) {
+			int x = squareX(square);
+			int y = squareY(square);
+
+			if(x >= clip.x + clip.width || y >= clip.y + clip.height || x + squareSize <= clip.x || y + squareSize <= clip.y) {
+				continue;
+			}
+			g.setColor((Position.row(square) + Position.column(square)) % 2 == 0 ? LIGHT_SQUARE : DARK_SQUARE);
+			g.fillRect(x, y, squareSize, squareSize);
+
+			if((highlightedSquares & (1L << square)) != 0) {
+				g.setColor(HIGHLIGHT);
+				g.fillRect(x, y, squareSize, frame);
+				g.fillRect(x, y + squareSize - frame, squareSize, frame);
+				g.fillRect(x, y, frame, squareSize);
+				g.fillRect(x + squareSize - frame, y, frame, squareSize);
+			}
+
+			//The sliding piece is drawn on its own until it reaches its square
+			if(pieces[square] != Position.EMPTY && !(animatedPiece != Position.EMPTY && square == animationTo)) {
+				drawSprite(g, pieces[square], x, y);
+			}
+		}
+
+		if(animatedPiece != Position.EMPTY) {
+			drawSprite(g, animatedPiece, animatedX, animatedY);
+		}
+	}
+
+	private void drawSprite(Graphics2D g, int piece, int x, int y) {
+		BufferedImage sprite = scaledSprites[piece];
+
+		if(sprite != null) {
+			g.drawImage(sprite, x + (squareSize - sprite.getWidth()) / 2, y + (squareSize - sprite.getHeight()) / 2, null);
+		}
+	}
+
+	/**
+	 * Centers the largest square board that fits the component, scaling the
+	 * sprites again when the square size changed
+	 */
+	private void updateLayout() {
+		squareSize = Math.max(1, Math.min(getWidth(), getHeight()) / 8);
+		boardX = (getWidth() - squareSize * 8) / 2;
+		boardY = (getHeight() - squareSize * 8) / 2;
+
+		if(squareSize != spriteSquareSize) {
+			spriteSquareSize = squareSize;
+			scaleSprites();
+		}
+	}
+
+	private void scaleSprites() {
+		GraphicsConfiguration configuration = getGraphicsConfiguration();
+
+		for(int piece = 0; piece < scaledSprites.length; piece++) {
+			BufferedImage sprite = PieceSprites.getSprite(Position.colorOf(piece) == Position.WHITE, Position.typeOf(piece));
+
+			if(sprite == null) {
+				scaledSprites[piece] = null;
+				continue;
+			}
+			double scale = squareSize * SPRITE_SCALE / Math.max(sprite.getWidth(), sprite.getHeight());
+			int width = Math.max(1, (int) Math.round(sprite.getWidth() * scale));
+			int height = Math.max(1, (int) Math.round(sprite.getHeight() * scale));
+
+			BufferedImage scaled = configuration != null ? configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+					: new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g = scaled.createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			g.drawImage(sprite, 0, 0, width, height, null);
+			g.dispose();
+
+			scaledSprites[piece] = scaled;
+		}
+	}
+
+	/**
+	 * @return The square under a point of the component, or NO_SQUARE outside the board
+	 */
+	private int squareAt(int x, int y) {
+		updateLayout();
+
+		if(x < boardX || y < boardY || x >= boardX + squareSize * 8 || y >= boardY + squareSize * 8) {
+			return Position.NO_SQUARE;
+		}
+		return Position.square((y - boardY) / squareSize, (x - boardX) / squareSize);
+	}
+
+	private int squareX(int square) {
+		return boardX + Position.column(square) * squareSize;
+	}
+
+	private int squareY(int square) {
+		return boardY + Position.row(square) * squareSize;
+	}
+
+	private void repaintSquare(int square) {
+		updateLayout();
+		repaint(squareX(square), squareY(square), squareSize, squareSize);
+	}
+}
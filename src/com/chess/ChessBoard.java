@@ -2,14 +2,17 @@ package com.chess;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
-import java.awt.Component;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
-import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -17,18 +20,24 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.border.Border;
+import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
+import javax.swing.border.LineBorder;
 import javax.swing.border.TitledBorder;
 import javax.swing.text.DefaultCaret;
 
+import com.chess.book.OpeningBook;
+import com.chess.engine.BoardAdapter;
+import com.chess.engine.Game;
+import com.chess.engine.Move;
+import com.chess.engine.Position;
 import com.chess.enums.PieceColor;
-import com.chess.pieces.Bishop;
 import com.chess.pieces.ChessPiece;
-import com.chess.pieces.King;
-import com.chess.pieces.Knight;
-import com.chess.pieces.Pawn;
-import com.chess.pieces.Queen;
-import com.chess.pieces.Rook;
+import com.chess.search.SearchLimits;
+import com.chess.search.Searcher;
+import com.chess.tablebase.Tablebase;
 
 /**
  * GUI used to be displayed on screen for the user to interact and play chess
@@ -40,12 +49,35 @@ public class ChessBoard extends JFrame {
 
 	private static final long serialVersionUID = 1L;
 	
+	//Both borders take the same space so highlighting a square doesn't lay the board out again
+	private static final Border HIGHLIGHT_BORDER = new CompoundBorder(new LineBorder(Color.YELLOW, 5), new EmptyBorder(5, 5, 5, 5));
+	private static final Border PLAIN_BORDER = new EmptyBorder(10, 10, 10, 10);
+	
+	private static final ImageIcon[] pieceIcons = new ImageIcon[12]; //Icon of every color and type, shared by all boards
+	
 	private JButton[][] spaces = new JButton[8][8]; //Represents an array of spaces that are on the board
-	private ChessPiece[][] referenceGrid = new ChessPiece[8][8]; //Represents an array of possible chess piece locations
+	private ChessPiece[][] referenceGrid = new ChessPiece[8][8]; //Represents the chess pieces displayed on the board
 	private ArrayList<int[]> legalPositions = new ArrayList<int[]>(); //Represents legal positions available to a selected piece
-	private ChessPiece selectedPiece; //Represents the chess piece selected by a user
-	private PieceColor playerTurn; //Represents who's turn it is in the game
-	private int turnCounter = 1; //Record used for checking for possible stalemates
+	private int selectedSquare = Position.NO_SQUARE; //Represents the square of the chess piece selected by a user
+	private final Game game; //Represents the game being played, only used on the engine thread
+	private Game displayedGame; //Represents the copy of the game shown on the board, only used on the Event Dispatch Thread
+	private boolean engineBusy; //Records when a move is being played or searched on the engine thread
+	private final PieceColor computerColor; //Represents the color played by the computer, null when two players play
+	private final long computerThinkMillis; //Time given to the computer to choose each move
+	private final Searcher searcher = new Searcher();
+	private final OpeningBook openingBook; //Consulted by the computer before searching, null without a book
+	private final Random bookRandom = new Random(); //Chooses between book moves, only used on the engine thread
+	private BoardView boardView; //Represents the custom-painted board, null when the board is made of buttons
+	
+	//Plays the moves and computes the game status away from the Event Dispatch Thread
+	private final ExecutorService engineThread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable task) {
+			Thread thread = new Thread(task, "Chess engine");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
 	
 	
 	private JPanel dashboardPanel;
@@ -57,17 +89,88 @@ public class ChessBoard extends JFrame {
 	 */
 	public ChessBoard()
 	{
+		this(new Game());
+	}
+	
+	/**
+	 * Constructor for displaying an existing game
+	 * 
+	 * @param game 	The game to display and play on
+	 */
+	public ChessBoard(Game game)
+	{
+		this(game, null, 0);
+	}
+	
+	/**
+	 * Constructor for playing a game against the computer
+	 * 
+	 * @param game 					The game to display and play on
+	 * @param computerColor 		The color played by the computer, null for two players
+	 * @param computerThinkMillis 	Time given to the computer to choose each move
+	 */
+	public ChessBoard(Game game, PieceColor computerColor, long computerThinkMillis)
+	{
+		this(game, computerColor, computerThinkMillis, false);
+	}
+	
+	/**
+	 * Constructor choosing how the board is drawn
+	 * 
+	 * @param game 					The game to display and play on
+	 * @param computerColor 		The color played by the computer, null for two players
+	 * @param computerThinkMillis 	Time given to the computer to choose each move
+	 * @param customPainted 		Whether to paint the board as a single resizable component instead of a grid of buttons
+	 */
+	public ChessBoard(Game game, PieceColor computerColor, long computerThinkMillis, boolean customPainted)
+	{
+		this(game, computerColor, computerThinkMillis, customPainted, null, null);
+	}
+	
+	/**
+	 * Constructor letting the computer play the moves of an opening book while
+	 * the game is in it, searching only once the book runs out, and score
+	 * positions covered by endgame tables exactly, so it plays won endings out
+	 * by the shortest mate
+	 * 
+	 * @param game 					The game to display and play on
+	 * @param computerColor 		The color played by the computer, null for two players
+	 * @param computerThinkMillis 	Time given to the computer to choose each move
+	 * @param customPainted 		Whether to paint the board as a single resizable component instead of a grid of buttons
+	 * @param openingBook 			The book to play from, null to always search
+	 * @param tablebase 			The tables to look positions up in, null for none
+	 */
+	public ChessBoard(Game game, PieceColor computerColor, long computerThinkMillis, boolean customPainted, 
+			OpeningBook openingBook, Tablebase tablebase)
+	{
+		this.game = game;
+		this.displayedGame = game.copy();
+		this.computerColor = computerColor;
+		this.computerThinkMillis = computerThinkMillis;
+		this.openingBook = openingBook;
+		searcher.setTablebase(tablebase); //Before any search is handed to the engine thread
+		
 		setLayout(new BorderLayout());
 		setTitle("Welcome to Chess!");
 		setSize(800, 800);
 		setLocationRelativeTo(null);				
 		setDefaultCloseOperation(javax.swing.JFrame.EXIT_ON_CLOSE);
-		setResizable(false);
+		setResizable(customPainted);
 		
+		if(customPainted) {
+			boardView = new BoardView();
+		}
 		buildMainPanel();
-		initializeChessPieces();
-		playerTurn = PieceColor.WHITE;
-		textArea.setText("Player White's move");
+		syncBoardWithGame();
+		textArea.setText("Player " + playerName(displayedGame.getPlayerTurn()) + "'s move");
+		
+		//Let the computer open the game once the board is displayed
+		SwingUtilities.invokeLater(new Runnable() {
+			@Override
+			public void run() {
+				playComputerMove();
+			}
+		});
 	}
 	
 	/**
@@ -77,19 +180,31 @@ public class ChessBoard extends JFrame {
 	 * @param piece 	Chess piece to be placed onto the board
 	 */
 	public void placePieceOntoBoard(ChessPiece piece) {
-		Component[] components = dashboardPanel.getComponents();
 		int[] location = piece.getPieceLocation();
 		
-		int xCoordinate = location[0];
-		int yCoordinate = location[1];
+		if(boardView != null) {
+			boardView.setPiece(Position.square(location[0], location[1]), pieceCode(piece));
+		}
+		else {
+			spaces[location[0]][location[1]].setIcon(getPieceIcon(piece));
+		}
+		referenceGrid[location[0]][location[1]] = piece;
+	}
+	
+	/**
+	 * @return The icon of the chess piece's color and type, created the first time it is displayed
+	 */
+	private static ImageIcon getPieceIcon(ChessPiece piece) {
+		int index = pieceCode(piece);
 		
-		for(int i = 0; i < components.length; i++) {
-			if(components[i].getName().equals("Grid [" + xCoordinate + "," + yCoordinate + "]")) {
-				((JButton)components[i]).setIcon(new ImageIcon(piece.getPieceImage()));
-				referenceGrid[xCoordinate][yCoordinate] = piece;
-				break;
-			}
+		if(pieceIcons[index] == null) {
+			pieceIcons[index] = new ImageIcon(piece.getPieceImage());
 		}
+		return pieceIcons[index];
+	}
+	
+	private static int pieceCode(ChessPiece piece) {
+		return Position.pieceCode(piece.isPieceWhite() ? Position.WHITE : Position.BLACK, BoardAdapter.typeOf(piece));
 	}
 	
 	/**
@@ -97,11 +212,23 @@ public class ChessBoard extends JFrame {
 	 */
 	private void buildMainPanel()
 	{
-		buildDashboard();
 		buildMessagePanel();
-		
 		add(messagePanel, BorderLayout.NORTH);
-		add(dashboardPanel, BorderLayout.CENTER);
+		
+		if(boardView != null) {
+			boardView.setSquareListener(new BoardView.SquareListener() {
+				@Override
+				public void squareClicked(int square) {
+					int[] targetPieceLocation = {Position.row(square), Position.column(square)};
+					selectSquare(targetPieceLocation);
+				}
+			});
+			add(boardView, BorderLayout.CENTER);
+		}
+		else {
+			buildDashboard();
+			add(dashboardPanel, BorderLayout.CENTER);
+		}
 	}
 	
 	private void buildDashboard()
@@ -119,88 +246,13 @@ public class ChessBoard extends JFrame {
 				spaces[i][j].setBackground(colors[k % 2]);
 				spaces[i][j].setName("Grid [" + i + "," + j + "]");
 				
-				final JButton gridBoard = spaces[i][j];
+				final int[] targetPieceLocation = {i, j};
 				
 				//Implement an ActionListener to the JButton
-				gridBoard.addActionListener(new ActionListener(){
+				spaces[i][j].addActionListener(new ActionListener(){
 					@Override
 					public void actionPerformed(ActionEvent arg0) {
-						JButton clickedComponent = (JButton) arg0.getSource();
-						String gridName = clickedComponent.getName();
-						String gridLocation = gridName.substring(gridName.indexOf("[") + 1, gridName.indexOf("[") + 4);
-						String[] gridCoordinates = gridLocation.split(",");
-						
-						int[] targetPieceLocation = {Integer.parseInt(gridCoordinates[0]), Integer.parseInt(gridCoordinates[1])};
-						
-						ChessPiece chessPiece = referenceGrid[targetPieceLocation[0]][targetPieceLocation[1]]; //Try to retrieve piece from reference grid
-						
-						//Check if there is a piece at the selected coordinates
-						if(chessPiece != null) {
-							
-							//Check that the selected piece is allowed to make a move
-							if(isPieceMoveAllowed(chessPiece)) {
-									
-								//Check if a piece has already been selected previously and that a legal move is not being made
-								if(selectedPiece != null && legalPositions.size() < 0) {
-									clearHighlightedPositions(); //Remove old highlighted points
-								}
-								
-								//Check if a piece has already been selected and that a legal move is being made
-								else if (selectedPiece != null && legalPositions.size() > 0) {
-									
-									moveChessPiece(selectedPiece, targetPieceLocation);
-									checkBoard();
-									clearHighlightedPositions(); //Remove old highlighted points
-								}
-								selectedPiece = chessPiece;
-								
-								//Check the type of the selected piece to highlight possible moves
-								if(chessPiece instanceof Pawn) {
-									VerificationHelper.findLegalPawnMovements((Pawn)chessPiece, referenceGrid, legalPositions);
-								} 
-								else if(chessPiece instanceof Knight) {
-									VerificationHelper.findLegalKnightMovements((Knight)chessPiece, referenceGrid, legalPositions);
-								} 
-								else if(chessPiece instanceof Bishop) {
-									VerificationHelper.findLegalBishopMovements((Bishop)chessPiece, referenceGrid, legalPositions);
-								} 
-								else if(chessPiece instanceof Rook) {
-									VerificationHelper.findLegalRookMovements((Rook)chessPiece, referenceGrid, legalPositions);
-								} 
-								else if(chessPiece instanceof Queen) {
-									VerificationHelper.findLegalQueenMovements((Queen)chessPiece, referenceGrid, legalPositions);
-								} 
-								else if(chessPiece instanceof King) {
-									VerificationHelper.findLegalKingMovements((King)chessPiece, referenceGrid, legalPositions);
-								}		
-								highightPossiblePositions();
-							}
-							
-							else if(selectedPiece != null) {
-								if((selectedPiece.isPieceWhite() && !(chessPiece.isPieceWhite())) || (!(selectedPiece.isPieceWhite()) && chessPiece.isPieceWhite())) {
-									
-									moveChessPiece(selectedPiece, targetPieceLocation);
-									checkBoard();
-									clearHighlightedPositions(); //Remove old highlighted points
-								}
-							}
-						}
-						//A piece has not been selected, so check if an attempt to move a piece is occurring 
-						else if(selectedPiece != null) {
-							
-							//Check if the move is a legal position to move the piece
-							if(legalPositions.size() > 0) {
-								
-								moveChessPiece(selectedPiece, targetPieceLocation);
-								checkBoard();
-								clearHighlightedPositions(); //Remove old highlighted points
-							}
-							//A piece has not been selected and highlighted positions must be removed
-							else {
-								selectedPiece = null;
-								clearHighlightedPositions();
-							}
-						}
+						selectSquare(targetPieceLocation);
 					}
 				});
 				
@@ -212,6 +264,43 @@ public class ChessBoard extends JFrame {
 		}
 	}
 	
+	/**
+	 * Selects the chess piece on a clicked square to highlight its moves, or
+	 * plays the selected piece's move when the square is one of them
+	 * 
+	 * @param targetPieceLocation 	Coordinates of the square clicked
+	 */
+	private void selectSquare(int[] targetPieceLocation) {
+		//Ignore the board until the engine thread has published the last move
+		if(engineBusy) {
+			return;
+		}
+		ChessPiece chessPiece = referenceGrid[targetPieceLocation[0]][targetPieceLocation[1]]; //Try to retrieve piece from reference grid
+		
+		//Check if a piece has already been selected and that a legal move is being made
+		if(selectedSquare != Position.NO_SQUARE && isLegalPosition(targetPieceLocation)) {
+			moveChessPiece(targetPieceLocation);
+		}
+		//Check that the selected piece is allowed to make a move to highlight its possible moves
+		else if(chessPiece != null && isPieceMoveAllowed(chessPiece)) {
+			clearHighlightedPositions(); //Remove old highlighted points
+			
+			selectedSquare = Position.square(targetPieceLocation[0], targetPieceLocation[1]);
+			List<Move> legalMoves = displayedGame.getLegalMoves(selectedSquare);
+			
+			for(Move move : legalMoves) {
+				int[] coordinate = {Position.row(move.getTo()), Position.column(move.getTo())};
+				legalPositions.add(coordinate);
+			}
+			highightPossiblePositions();
+		}
+		//A legal move is not being made and highlighted positions must be removed
+		else {
+			selectedSquare = Position.NO_SQUARE;
+			clearHighlightedPositions();
+		}
+	}
+	
 	private void buildMessagePanel() {
 		messagePanel = new JPanel();
 		messagePanel.setBorder(new TitledBorder("Game Status"));
@@ -229,54 +318,20 @@ public class ChessBoard extends JFrame {
 	}
 	
 	/**
-	 * Creates and places the chess pieces onto the board
+	 * Searches and highlights the legal moves referenced in the legalPositions array
 	 */
-	private void initializeChessPieces() {
-		//Create and place the pawns
-		for(int i = 0; i < 8; i++) {
-			placePieceOntoBoard(new Pawn(PieceColor.BLACK, 1, i));
-			placePieceOntoBoard(new Pawn(PieceColor.WHITE, 6, i));
+	private void highightPossiblePositions() {
+		if(boardView != null) {
+			long squares = 0;
 			
-			//Place the rest of the black pieces
-			if(i == 0) {
-				placePieceOntoBoard(new Knight(PieceColor.BLACK, i, 1));
-				placePieceOntoBoard(new Knight(PieceColor.BLACK, i, 6));
-				
-				placePieceOntoBoard(new Bishop(PieceColor.BLACK, i, 2));
-				placePieceOntoBoard(new Bishop(PieceColor.BLACK, i, 5));
-				
-				placePieceOntoBoard(new Rook(PieceColor.BLACK, i, 0));
-				placePieceOntoBoard(new Rook(PieceColor.BLACK, i, 7));
-				
-				placePieceOntoBoard(new Queen(PieceColor.BLACK, i, 3));
-				
-				placePieceOntoBoard(new King(PieceColor.BLACK, i, 4));
-			}
-			//Place the rest of the black pieces
-			else if(i == 7) {
-				placePieceOntoBoard(new Knight(PieceColor.WHITE, i, 1));
-				placePieceOntoBoard(new Knight(PieceColor.WHITE, i, 6));
-				
-				placePieceOntoBoard(new Bishop(PieceColor.WHITE, i, 2));
-				placePieceOntoBoard(new Bishop(PieceColor.WHITE, i, 5));
-				
-				placePieceOntoBoard(new Rook(PieceColor.WHITE, i, 0));
-				placePieceOntoBoard(new Rook(PieceColor.WHITE, i, 7));
-				
-				placePieceOntoBoard(new Queen(PieceColor.WHITE, i, 3));
-				
-				placePieceOntoBoard(new King(PieceColor.WHITE, i, 4));
+			for (int[] coordinate : legalPositions) {
+				squares |= 1L << Position.square(coordinate[0], coordinate[1]);
 			}
+			boardView.setHighlightedSquares(squares);
+			return;
 		}
-	}
-	
-	/**
-	 * Searches and highlights the legal moves referenced in the legalPositions array
-	 */
-	private void highightPossiblePositions() {
 		for (int[] coordinate : legalPositions) {
-			JButton buttonToHighlight = findButtonOnBoard(coordinate[0], coordinate[1]);
-			buttonToHighlight.setBorder(BorderFactory.createLineBorder(Color.YELLOW, 5));
+			spaces[coordinate[0]][coordinate[1]].setBorder(HIGHLIGHT_BORDER);
 		}
 	}
 	
@@ -285,316 +340,232 @@ public class ChessBoard extends JFrame {
 	 * and the highlighted spaces
 	 */
 	private void clearHighlightedPositions() {
-		for (int[] coordinate : legalPositions) {	
-			JButton buttonToHighlight = findButtonOnBoard(coordinate[0], coordinate[1]);
-			buttonToHighlight.setBorder(new EmptyBorder(10, 10, 10, 10));;
+		if(boardView != null) {
+			boardView.setHighlightedSquares(0);
+		}
+		else {
+			for (int[] coordinate : legalPositions) {	
+				spaces[coordinate[0]][coordinate[1]].setBorder(PLAIN_BORDER);
+			}
 		}
 		legalPositions.clear();
 	}
 	
 	/**
-	 * Updates the selected chess piece's location and updating the corresponding
-	 * space's icons
+	 * Plays the selected chess piece's move to the target location on the game
+	 * and updates the corresponding spaces' icons
 	 * 
-	 * @param chessPiece
 	 * @param targetPieceLocation
 	 */
-	private void moveChessPiece(ChessPiece chessPiece, int[] targetPieceLocation) {
+	private void moveChessPiece(int[] targetPieceLocation) {
 		
-		final int xTargetAxis = targetPieceLocation[0];
-		final int yTargetAxis = targetPieceLocation[1];
+		int targetSquare = Position.square(targetPieceLocation[0], targetPieceLocation[1]);
+		Move move = displayedGame.findLegalMove(selectedSquare, targetSquare, Position.QUEEN);
 		
-		//Find previous piece location in order to find the component that needs its icon removed
-		int[] previousLocation = selectedPiece.getPieceLocation();
+		//Check if pawn can be promoted based on its target location
+		if(move.getFlag() == Move.PROMOTION) {
+			String[] possiblePromotions = {"Queen", "Knight", "Rook", "Bishop"};
+			String userOption = (String) JOptionPane.showInputDialog(null, "Select which piece to promote your pawn to: ", "Pawn Promotion", 
+															JOptionPane.INFORMATION_MESSAGE, null, possiblePromotions, possiblePromotions[0]);
+			//Check for possible null exception
+			if(userOption == null) {
+				userOption = "Queen"; //Set default option as Queen
+			}
+			switch(userOption) {
+			case "Knight":
+				move = displayedGame.findLegalMove(selectedSquare, targetSquare, Position.KNIGHT);
+				break;
+			case "Rook":
+				move = displayedGame.findLegalMove(selectedSquare, targetSquare, Position.ROOK);
+				break;
+			case "Bishop":
+				move = displayedGame.findLegalMove(selectedSquare, targetSquare, Position.BISHOP);
+				break;
+			}
+		}
+		clearHighlightedPositions(); //Remove old highlighted points
+		selectedSquare = Position.NO_SQUARE;
 		
-		for(int[] coordinate: legalPositions) {
-			if(coordinate[0] == xTargetAxis && coordinate[1] == yTargetAxis) {
-				
-				JButton oldLocationButton = findButtonOnBoard(previousLocation[0], previousLocation[1]);
-				oldLocationButton.setIcon(null);
-				
-				JButton newLocationButton = findButtonOnBoard(xTargetAxis, yTargetAxis);
-				newLocationButton.setIcon(new ImageIcon(selectedPiece.getPieceImage()));
-				
+		playOnEngineThread(move);
+	}
+	
+	/**
+	 * Searches and plays the computer's move when it is the computer's turn
+	 */
+	private void playComputerMove() {
+		if(computerColor == null || displayedGame.isGameOver() || displayedGame.getPlayerTurn() != computerColor) {
+			return;
+		}
+		playOnEngineThread(null);
+	}
+	
+	/**
+	 * Plays a move on the engine thread, where the game's status is computed,
+	 * and publishes a copy of the resulting game back to the Event Dispatch Thread
+	 * 
+	 * @param move 	The move to play, null for the computer to search for one
+	 */
+	private void playOnEngineThread(final Move move) {
+		engineBusy = true;
+		
+		engineThread.execute(new Runnable() {
+			@Override
+			public void run() {
+				Move movePlayed = move;
+				boolean played = false;
+				RuntimeException failure = null;
 				
-				//Update the new square with the selected piece's icon
-				if(newLocationButton != null) {
-					newLocationButton.setIcon(new ImageIcon(selectedPiece.getPieceImage()));
-
-					referenceGrid[previousLocation[0]][previousLocation[1]] = null;
-					ChessPiece eliminatedPiece = referenceGrid[xTargetAxis][yTargetAxis];
-					referenceGrid[xTargetAxis][yTargetAxis] = chessPiece;
-					
-					//Check the type of the selected piece to call the corresponding method
-					if(chessPiece instanceof Pawn) {
-						
-						//Check for null eliminated piece in case En Passant attack rule is needed
-						if(eliminatedPiece == null) {
-							if(chessPiece.isPieceWhite() && previousLocation[0] - 1 == xTargetAxis && (previousLocation[1] + 1 == yTargetAxis || previousLocation[1] - 1 == yTargetAxis)) {
-								
-								//Find and remove the icon and piece from the board
-								JButton button = findButtonOnBoard(xTargetAxis + 1, yTargetAxis);
-								button.setIcon(null);
-								referenceGrid[xTargetAxis + 1][yTargetAxis] = null;
-							}
-							else if(!(chessPiece.isPieceWhite()) && previousLocation[0] + 1 == xTargetAxis && (previousLocation[1] + 1 == yTargetAxis || previousLocation[1] - 1 == yTargetAxis)) {
-								
-								//Find and remove the icon and piece from the board
-								JButton button = findButtonOnBoard(xTargetAxis - 1, yTargetAxis);
-								button.setIcon(null);
-								referenceGrid[xTargetAxis - 1][yTargetAxis] = null;
-							}
-						}
-						
-						//Store previous x-axis position from pawn and direction it's moving
-						int previousX = previousLocation[0];
-						int direction = 1;
-						
-						if(chessPiece.isPieceWhite()) {
-							direction = -1;
-						}
-						
-						((Pawn)chessPiece).move(xTargetAxis, yTargetAxis); //Move the piece
-						
-						//Check if pawn made two moves forward from initial position
-						if(previousX + (direction * 2) == previousLocation[0]) {
-						
-							ChessPiece leftSidePiece = null;
-							ChessPiece rightSidePiece = null;
-							
-							//Check if enemy pawns are located next to the pawn for possible En Passant rule based on its position
-							if(yTargetAxis == 7) {
-								leftSidePiece = referenceGrid[xTargetAxis][yTargetAxis - 1];
-								rightSidePiece = null;
-							} 
-							else if(yTargetAxis == 0) {
-								leftSidePiece = null;
-								rightSidePiece = referenceGrid[xTargetAxis][yTargetAxis + 1];
-							}
-							else {
-								leftSidePiece = referenceGrid[xTargetAxis][yTargetAxis - 1];
-								rightSidePiece = referenceGrid[xTargetAxis][yTargetAxis + 1];
-							}
-							
-							if(leftSidePiece != null) {
-								if(VerificationHelper.arePieceColorsDifferent(chessPiece, leftSidePiece)) {
-									((Pawn) chessPiece).makeValidForEnPassant();
-								}
-							}
-							else if(rightSidePiece != null) {
-								if(VerificationHelper.arePieceColorsDifferent(chessPiece, rightSidePiece)) {
-									((Pawn) chessPiece).makeValidForEnPassant();
-								}
-							}
-						}
-						
-						//Check if pawn can be promoted based on its target location
-						if(xTargetAxis == 0 || xTargetAxis == 7) {
-							String[] possiblePromotions = {"Queen", "Knight", "Rook", "Bishop"};
-							String userOption = (String) JOptionPane.showInputDialog(null, "Select which piece to promote your pawn to: ", "Pawn Promotion", 
-																			JOptionPane.INFORMATION_MESSAGE, null, possiblePromotions, possiblePromotions[0]);
-							//Check for possible null exception
-							if(userOption == null) {
-								userOption = "Queen"; //Set default option as Queen
-							}
-							switch(userOption) {
-							
-							case "Knight":
-								Knight newKnight;
-								
-								if(playerTurn == PieceColor.WHITE) {
-									newKnight = new Knight(PieceColor.WHITE, xTargetAxis, yTargetAxis);
-								}
-								else {
-									newKnight = new Knight(PieceColor.BLACK, xTargetAxis, yTargetAxis);
-								}
-								referenceGrid[xTargetAxis][yTargetAxis] = newKnight;
-								newLocationButton.setIcon(new ImageIcon(newKnight.getPieceImage()));
-								break;
-							
-							case "Rook":
-								Rook newRook;
-								
-								if(playerTurn == PieceColor.WHITE) {
-									newRook = new Rook(PieceColor.WHITE, xTargetAxis, yTargetAxis);
-								}
-								else {
-									newRook = new Rook(PieceColor.BLACK, xTargetAxis, yTargetAxis);
-								}
-								referenceGrid[xTargetAxis][yTargetAxis] = newRook;
-								newLocationButton.setIcon(new ImageIcon(newRook.getPieceImage()));
-								break;
-								
-							case "Bishop":
-								Bishop newBishop;
-								
-								if(playerTurn == PieceColor.WHITE) {
-									newBishop = new Bishop(PieceColor.WHITE, xTargetAxis, yTargetAxis);
-								}
-								else {
-									newBishop = new Bishop(PieceColor.BLACK, xTargetAxis, yTargetAxis);
-								}
-								referenceGrid[xTargetAxis][yTargetAxis] = newBishop;
-								newLocationButton.setIcon(new ImageIcon(newBishop.getPieceImage()));
-								break;
-							
-							case "Queen":
-							default:
-								Queen newQueen;
-								
-								if(playerTurn == PieceColor.WHITE) {
-									newQueen = new Queen(PieceColor.WHITE, xTargetAxis, yTargetAxis);
-								}
-								else {
-									newQueen = new Queen(PieceColor.BLACK, xTargetAxis, yTargetAxis);
-								}
-								referenceGrid[xTargetAxis][yTargetAxis] = newQueen;
-								newLocationButton.setIcon(new ImageIcon(newQueen.getPieceImage()));
-								break;
-							}
-						}
-					} 
-					else if(chessPiece instanceof Knight) {
-						((Knight)chessPiece).move(xTargetAxis, yTargetAxis);
-					} 
-					else if(chessPiece instanceof Bishop) {
-						((Bishop)chessPiece).move(xTargetAxis, yTargetAxis);
-					} 
-					else if(chessPiece instanceof Rook) {
-						((Rook)chessPiece).move(xTargetAxis, yTargetAxis);
-					} 
-					else if(chessPiece instanceof Queen) {
-						((Queen)chessPiece).move(xTargetAxis, yTargetAxis);
-					} 
-					else if(chessPiece instanceof King) {
-						
-						int previousY = previousLocation[1];
-						
-						((King)chessPiece).move(xTargetAxis, yTargetAxis);
-						
-						//Check if King movement resembles that of Castling
-						if(previousLocation[1] - 2 == previousY || previousLocation[1] + 2 == previousY) {
-							
-							if(previousLocation[1] - 2 == previousY) {
-								//Move the Rook to the correct side of the King
-								Rook rook = (Rook) referenceGrid[xTargetAxis][yTargetAxis + 1];
-								rook.move(xTargetAxis, yTargetAxis - 1);
-								
-								//Update the corresponding button icons
-								JButton button = findButtonOnBoard(xTargetAxis, yTargetAxis + 1);
-								button.setIcon(null);
-								
-								button = findButtonOnBoard(xTargetAxis, yTargetAxis - 1);
-								button.setIcon(new ImageIcon(rook.getPieceImage()));
-								
-								//Update the rook's new location and remove old reference
-								referenceGrid[xTargetAxis][yTargetAxis - 1] = rook;
-								referenceGrid[xTargetAxis][yTargetAxis + 1] = null;
-							}
-							else {
-							
-								//Move the Rook to the correct side of the King
-								Rook rook = (Rook) referenceGrid[xTargetAxis][yTargetAxis - 2];
-								rook.move(xTargetAxis, yTargetAxis + 1);
-								
-								//Update the corresponding button icons
-								JButton button = findButtonOnBoard(xTargetAxis, yTargetAxis - 2);
-								button.setIcon(null);
-								
-								button = findButtonOnBoard(xTargetAxis, yTargetAxis + 1);
-								button.setIcon(new ImageIcon(rook.getPieceImage()));
-								
-								//Update the rook's new location and remove old reference
-								referenceGrid[xTargetAxis][yTargetAxis + 1] = rook;
-								referenceGrid[xTargetAxis][yTargetAxis - 2] = null;
-							}
-						}
+				try {
+					if(movePlayed == null && openingBook != null) {
+						int bookMove = openingBook.chooseMove(game.getPosition(), bookRandom);
+						movePlayed = bookMove == Move.NONE ? null : Move.decode(bookMove);
 					}
-					selectedPiece = null;
-					
-					//Check to see if the King has been eliminated to declare a winner
-					if(eliminatedPiece instanceof King) {
-						declareWinner();
+					if(movePlayed == null) {
+						movePlayed = searcher.search(game.getPosition(), SearchLimits.time(computerThinkMillis)).getBestMove();
 					}
-					else {
-						turnCounter++;
-						
-						//Determine who's turn is next
-						switch(playerTurn) {
-						case BLACK:
-							playerTurn = PieceColor.WHITE;
-							displayMessage("\nPlayer White's move ");
-							searchAndRemoveEnPassantStatuses(PieceColor.WHITE);
-							break;
-						case WHITE:
-							playerTurn = PieceColor.BLACK;
-							displayMessage("\nPlayer Black's move ");
-							searchAndRemoveEnPassantStatuses(PieceColor.BLACK);
-							break;
-						}
-					}
-					break;
+					played = game.applyMove(movePlayed);
+				} catch(RuntimeException e) {
+					failure = e;
 				}
+				
+				//Rather than leave the computer's turn hanging, it falls back on its first legal move
+				if(!played && move == null && !game.isGameOver()) {
+					reportEngineFailure("The computer couldn't choose a move and plays its first legal move instead", failure);
+					movePlayed = game.getLegalMoves().get(0);
+					played = game.applyMove(movePlayed);
+				}
+				else if(failure != null) {
+					reportEngineFailure("The move " + move + " couldn't be played", failure);
+				}
+				publishMove(played ? movePlayed : null, game.copy(), move == null);
 			}
-		}
+		});
 	}
 	
-	private JButton findButtonOnBoard(int xCoordinate, int yCoordinate) {
-		
-		Component[] components = dashboardPanel.getComponents();
-		
-		for(int i = 0; i < components.length; i++) {
-			if(components[i].getName().equals("Grid [" + xCoordinate + "," + yCoordinate + "]")) {
-				return ((JButton)components[i]);
+	/**
+	 * Tells the user on the Event Dispatch Thread that the engine thread failed to play a move
+	 * 
+	 * @param message 	What couldn't be done
+	 * @param failure 	The exception thrown on the engine thread, null if the move chosen was refused
+	 */
+	private void reportEngineFailure(final String message, final RuntimeException failure) {
+		SwingUtilities.invokeLater(new Runnable() {
+			@Override
+			public void run() {
+				displayMessage("\n" + message);
+				JOptionPane.showMessageDialog(null, failure == null ? message : message + ": " + failure, "Engine Error", JOptionPane.ERROR_MESSAGE);
 			}
-		}
-		
-		return null;
+		});
 	}
 	
-	private boolean isPieceMoveAllowed(ChessPiece chessPiece) {
-		if((chessPiece.isPieceWhite() && playerTurn == PieceColor.WHITE) || (!(chessPiece.isPieceWhite()) && playerTurn == PieceColor.BLACK)) {
-			return true;
+	/**
+	 * Shows a move played on the engine thread once the Event Dispatch Thread is free
+	 * 
+	 * @param move 				The move played, null if none was
+	 * @param gameAfterMove 	Copy of the game after the move
+	 * @param playedByComputer 	Whether the computer chose the move
+	 */
+	private void publishMove(final Move move, final Game gameAfterMove, final boolean playedByComputer) {
+		SwingUtilities.invokeLater(new Runnable() {
+			@Override
+			public void run() {
+				engineBusy = false;
+				
+				if(move == null) {
+					return;
+				}
+				displayedGame = gameAfterMove;
+				
+				if(playedByComputer) {
+					displayMessage("\nComputer played " + move);
+				}
+				showMove(move);
+				checkBoard();
+				playComputerMove();
+			}
+		});
+	}
+	
+	/**
+	 * Updates the board after a move was played, sliding the moved piece into
+	 * place on the custom-painted board
+	 */
+	private void showMove(Move move) {
+		syncBoardWithGame();
+		
+		if(boardView != null) {
+			boardView.animateMove(move);
 		}
-		else 
-			return false;
 	}
 	
-	private void searchAndRemoveEnPassantStatuses(PieceColor pieceColor) {
+	/**
+	 * Updates the icons of every space whose chess piece differs from the game's
+	 * position, so only the squares a move changed are repainted
+	 */
+	private void syncBoardWithGame() {
+		Position position = displayedGame.getPosition();
 		
 		for(int i = 0; i < 8; i++) {
 			for(int j = 0; j < 8; j++) {
-				ChessPiece possiblePawn = referenceGrid[i][j];
+				int piece = position.getPiece(Position.square(i, j));
+				ChessPiece displayedPiece = referenceGrid[i][j];
 				
-				if(possiblePawn != null) {
-					
-					switch(pieceColor) {
-					case BLACK:
-
-						if(possiblePawn instanceof Pawn && !(possiblePawn.isPieceWhite())) {
-							((Pawn)possiblePawn).removeEnPassant();
-							referenceGrid[i][j] = possiblePawn;
-						}	
-						break;
-					case WHITE:
-						
-						if(possiblePawn instanceof Pawn && possiblePawn.isPieceWhite()) {
-							((Pawn)possiblePawn).removeEnPassant();
-							referenceGrid[i][j] = possiblePawn;
+				if(piece == Position.EMPTY) {
+					if(displayedPiece != null) {
+						if(boardView != null) {
+							boardView.setPiece(Position.square(i, j), Position.EMPTY);
+						}
+						else {
+							spaces[i][j].setIcon(null);
 						}
-						break;
+						referenceGrid[i][j] = null;
 					}
 				}
+				else if(displayedPiece == null || BoardAdapter.typeOf(displayedPiece) != Position.typeOf(piece)
+						|| displayedPiece.isPieceWhite() != (Position.colorOf(piece) == Position.WHITE)) {
+					placePieceOntoBoard(BoardAdapter.createPiece(Position.colorOf(piece), Position.typeOf(piece), i, j));
+				}
 			}
 		}
 	}
 	
-	private void declareWinner() {
-		if(playerTurn == PieceColor.BLACK) {
-			JOptionPane.showMessageDialog(null, "Player Black has won the game!\nOverall moves played: " + turnCounter, "Game Over", JOptionPane.INFORMATION_MESSAGE);
+	/**
+	 * @return Whether the location is one of the legal positions of the selected piece
+	 */
+	private boolean isLegalPosition(int[] location) {
+		for(int[] coordinate : legalPositions) {
+			if(coordinate[0] == location[0] && coordinate[1] == location[1]) {
+				return true;
+			}
 		}
-		else {
-			JOptionPane.showMessageDialog(null, "Player White has won the game!\nOverall moves played: " + turnCounter, "Game Over", JOptionPane.INFORMATION_MESSAGE);
+		return false;
+	}
+	
+	private boolean isPieceMoveAllowed(ChessPiece chessPiece) {
+		if(displayedGame.getPlayerTurn() == computerColor) {
+			return false;
+		}
+		else if((chessPiece.isPieceWhite() && displayedGame.getPlayerTurn() == PieceColor.WHITE) || (!(chessPiece.isPieceWhite()) && displayedGame.getPlayerTurn() == PieceColor.BLACK)) {
+			return true;
+		}
+		else 
+			return false;
+	}
+	
+	private void declareWinner() {
+		JOptionPane.showMessageDialog(null, "Player " + playerName(displayedGame.getWinner()) + " has won the game!\nOverall moves played: " + displayedGame.getMoveHistory().size(), "Game Over", JOptionPane.INFORMATION_MESSAGE);
+		disableBoard();
+	}
+	
+	private void declareDraw(String reason) {
+		JOptionPane.showMessageDialog(null, reason + " The game is a draw.\nOverall moves played: " + displayedGame.getMoveHistory().size(), "Game Over", JOptionPane.INFORMATION_MESSAGE);
+		disableBoard();
+	}
+	
+	private void disableBoard() {
+		if(boardView != null) {
+			boardView.setEnabled(false);
+			return;
 		}
 		//Disable all buttons on the board
 		for(int i = 0; i < spaces.length; i++) {
@@ -605,18 +576,34 @@ public class ChessBoard extends JFrame {
 	}
 	
 	private void checkBoard() {
-		if(VerificationHelper.checkForCheckmate(referenceGrid, playerTurn)) {
+		switch(displayedGame.getStatus()) {
+		case CHECKMATE:
 			declareWinner();
+			break;
+		case STALEMATE:
+			declareDraw("Stalemate!");
+			break;
+		case DRAW_BY_REPETITION:
+			declareDraw("The same position occurred three times!");
+			break;
+		case DRAW_BY_FIFTY_MOVE_RULE:
+			declareDraw("Fifty moves were played without a capture or pawn move!");
+			break;
+		case DRAW_BY_INSUFFICIENT_MATERIAL:
+			declareDraw("Neither player has enough pieces left to checkmate!");
+			break;
+		case CHECK:
+			displayMessage("\nPlayer " + playerName(displayedGame.getPlayerTurn()) + "'s move ");
+			JOptionPane.showMessageDialog(null, "Warning! Player " + playerName(displayedGame.getPlayerTurn()) + " is now in Check!");
+			break;
+		case ONGOING:
+			displayMessage("\nPlayer " + playerName(displayedGame.getPlayerTurn()) + "'s move ");
+			break;
 		}
-		//Call method for validating if player has forced a Check to the other player
-		else if(VerificationHelper.isKingInCheck(referenceGrid, playerTurn)) {
-			if(playerTurn != PieceColor.WHITE) {
-				JOptionPane.showMessageDialog(null, "Warning! Player Black is now in Check!");
-			}
-			else {
-				JOptionPane.showMessageDialog(null, "Warning! Player White is now in Check!");
-			}
-		}
+	}
+	
+	private static String playerName(PieceColor pieceColor) {
+		return pieceColor == PieceColor.WHITE ? "White" : "Black";
 	}
 	
 	private void displayMessage(String message) {
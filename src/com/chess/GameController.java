@@ -1,17 +1,95 @@
 package com.chess;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import javax.swing.JOptionPane;
+
+import com.chess.book.OpeningBook;
+import com.chess.engine.Game;
+import com.chess.enums.PieceColor;
+import com.chess.notation.Fen;
+import com.chess.tablebase.Tablebase;
+
 /**
- * Main class for generating and displaying the chess board GUI
+ * Main class for generating and displaying the chess board GUI. Passing
+ * --painted draws the board as a single resizable component instead of a
+ * grid of buttons, --fen "record" starts the game from the given position and
+ * --book file lets the computer play its openings from a book built by BuildBook
+ * and --tablebases dir lets it play endings from tables built by BuildTablebases.
  * 
  * Date: 1/29/2015
  * @author Omar Bonilla
  */
 public class GameController {
 	
+	private static final long COMPUTER_THINK_MILLIS = 2000; //Time given to the computer to choose each move
+	
 	public static void main(String[] args) {
 		
+		String[] gameModes = {"Two players", "Play as White vs Computer", "Play as Black vs Computer"};
+		int gameMode = JOptionPane.showOptionDialog(null, "Select a game mode: ", "Welcome to Chess!", JOptionPane.DEFAULT_OPTION, 
+				JOptionPane.INFORMATION_MESSAGE, null, gameModes, gameModes[0]);
+		
+		PieceColor computerColor = null;
+		
+		if(gameMode == 1) {
+			computerColor = PieceColor.BLACK;
+		}
+		else if(gameMode == 2) {
+			computerColor = PieceColor.WHITE;
+		}
+		
+		boolean customPainted = false;
+		String fen = Fen.STARTING_POSITION;
+		String bookFile = null;
+		String tablebaseDirectory = null;
+		
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--painted")) {
+				customPainted = true;
+			}
+			else if(args[i].equals("--fen") && i + 1 < args.length) {
+				fen = args[++i];
+			}
+			else if(args[i].equals("--book") && i + 1 < args.length) {
+				bookFile = args[++i];
+			}
+			else if(args[i].equals("--tablebases") && i + 1 < args.length) {
+				tablebaseDirectory = args[++i];
+			}
+		}
+		
+		Game game;
+		
+		try {
+			game = new Game(Fen.parse(fen));
+		} catch(IllegalArgumentException e) {
+			JOptionPane.showMessageDialog(null, "The starting position couldn't be read, playing from the usual one: " + e.getMessage());
+			game = new Game();
+		}
+		
+		//Open the book and tables before the board exists, as the computer may play the first move
+		OpeningBook openingBook = null;
+		Tablebase tablebase = null;
+		
+		if(bookFile != null) {
+			try {
+				openingBook = OpeningBook.open(Paths.get(bookFile));
+			} catch(IOException e) {
+				JOptionPane.showMessageDialog(null, "The opening book couldn't be opened: " + e.getMessage());
+			}
+		}
+		if(tablebaseDirectory != null) {
+			try {
+				tablebase = Tablebase.open(Paths.get(tablebaseDirectory));
+			} catch(IOException e) {
+				JOptionPane.showMessageDialog(null, "The endgame tables couldn't be opened: " + e.getMessage());
+			}
+		}
+		
 		// Create instance of the chess board
-		ChessBoard board = new ChessBoard();
+		ChessBoard board = new ChessBoard(game, computerColor, COMPUTER_THINK_MILLIS, customPainted, openingBook, tablebase);
 		board.setVisible(true);
 	}
 }
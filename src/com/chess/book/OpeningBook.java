@@ -0,0 +1,233 @@
+package com.chess.book;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+
+/**
+ * An opening book read straight from a memory-mapped file. The file holds a
+ * header followed by fixed-width entries sorted by position hash, so the
+ * moves of a position are found by binary search without reading the file
+ * into the heap. Entries are only read with absolute gets, which leave the
+ * buffer untouched, so one book can be probed by any number of threads.
+ *
+ * The file is laid out big-endian as:
+ *
+ *   header	MAGIC (8 bytes), number of entries (8 bytes)
+ *   entry	position hash (8 bytes), encoded move (2 bytes), weight (2 bytes), games (4 bytes)
+ *
+ * Entries of the same position follow each other, the heaviest first.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class OpeningBook {
+
+	public static final long MAGIC = 0x4348455353424B31L; //"CHESSBK1"
+	public static final int HEADER_BYTES = 16;
+	public static final int ENTRY_BYTES = 16;
+
+	private static final Map<Path, OpeningBook> openBooks = new HashMap<Path, OpeningBook>(); //Books mapped so far, by real path
+
+	private final MappedByteBuffer entries;
+	private final int entryCount;
+
+	private OpeningBook(MappedByteBuffer entries, int entryCount) {
+		this.entries = entries;
+		this.entryCount = entryCount;
+	}
+
+	/**
+	 * Maps a book file into memory. A file is only mapped once, and every
+	 * later call for it returns the same book, so the games of the JVM share
+	 * a single mapping.
+	 *
+	 * @param file	The book file to open
+	 * @return		The book
+	 * @throws IOException	If the file can't be read or isn't a book
+	 */
+	public static synchronized OpeningBook open(Path file) throws IOException {
+		Path realPath = file.toRealPath();
+		OpeningBook book = openBooks.get(realPath);
+
+		if(book != null) {
+			return book;
+		}
+		FileChannel channel = FileChannel.open(realPath, StandardOpenOption.READ);
+
+		try {
+			long size = channel.size();
+
+			if(size < HEADER_BYTES || size > Integer.MAX_VALUE || (size - HEADER_BYTES) % ENTRY_BYTES != 0) {
+				throw new IOException("Not an opening book: " + file);
+			}
+
+			//The mapping stays valid once the channel is closed
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			buffer.order(ByteOrder.BIG_ENDIAN);
+
+			if(buffer.getLong(0) != MAGIC || buffer.getLong(8) != (size - HEADER_BYTES) / ENTRY_BYTES) {
+				throw new IOException("Not an opening book: " + file);
+			}
+			book = new OpeningBook(buffer, (int) ((size - HEADER_BYTES) / ENTRY_BYTES));
+		} finally {
+			channel.close();
+		}
+		openBooks.put(realPath, book);
+		return book;
+	}
+
+	public int getEntryCount() {
+		return entryCount;
+	}
+
+	/**
+	 * Finds the first entry of a position by binary search
+	 *
+	 * @param hash	Zobrist hash of the position
+	 * @return		Index of the position's first entry, or -1 if the book doesn't have it
+	 */
+	public int findFirstEntry(long hash) {
+		int low = 0;
+		int high = entryCount;
+
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+
+			if(getHash(middle) < hash) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return low < entryCount && getHash(low) == hash ? low : -1;
+	}
+
+	/**
+	 * @param entry	Index of an entry
+	 * @return		Zobrist hash of the entry's position
+	 */
+	public long getHash(int entry) {
+		return entries.getLong(HEADER_BYTES + entry * ENTRY_BYTES);
+	}
+
+	/**
+	 * @param entry	Index of an entry
+	 * @return		The entry's encoded move
+	 */
+	public int getMove(int entry) {
+		return entries.getChar(HEADER_BYTES + entry * ENTRY_BYTES + 8);
+	}
+
+	/**
+	 * @param entry	Index of an entry
+	 * @return		Points the move scored for the player making it, 2 a win and 1 a draw
+	 */
+	public int getWeight(int entry) {
+		return entries.getChar(HEADER_BYTES + entry * ENTRY_BYTES + 10);
+	}
+
+	/**
+	 * @param entry	Index of an entry
+	 * @return		Number of games the move was played in
+	 */
+	public int getGames(int entry) {
+		return entries.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 12);
+	}
+
+	/**
+	 * Finds the book's legal moves of a position, heaviest first. Moves whose
+	 * entry only matches the position's hash by collision are left out.
+	 *
+	 * @param position	The position to look up, left as it was
+	 * @param moves		The list for storing the encoded moves found, cleared first
+	 * @return			Index of the position's first entry, or -1 if the book doesn't have it
+	 */
+	public int getMoves(Position position, MoveList moves) {
+		moves.clear();
+		long hash = position.getHash();
+		int first = findFirstEntry(hash);
+
+		if(first < 0) {
+			return -1;
+		}
+		for(int entry = first; entry < entryCount && getHash(entry) == hash; entry++) {
+			if(isLegal(position, getMove(entry))) {
+				moves.add(getMove(entry));
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * @param position	The position to look up, left as it was
+	 * @return			The book's heaviest legal move of the position, or Move.NONE
+	 */
+	public int getBestMove(Position position) {
+		long hash = position.getHash();
+		int first = findFirstEntry(hash);
+
+		for(int entry = first; entry >= 0 && entry < entryCount && getHash(entry) == hash; entry++) {
+			if(isLegal(position, getMove(entry))) {
+				return getMove(entry);
+			}
+		}
+		return Move.NONE;
+	}
+
+	/**
+	 * Chooses one of the book's legal moves of a position at random, in
+	 * proportion to the points each scored. Moves that never scored a point
+	 * aren't chosen.
+	 *
+	 * @param position	The position to look up, left as it was
+	 * @param random	Source of the choice
+	 * @return			The move chosen, or Move.NONE if the book has no move worth playing
+	 */
+	public int chooseMove(Position position, Random random) {
+		long hash = position.getHash();
+		int first = findFirstEntry(hash);
+		int totalWeight = 0;
+
+		for(int entry = first; entry >= 0 && entry < entryCount && getHash(entry) == hash; entry++) {
+			if(isLegal(position, getMove(entry))) {
+				totalWeight += getWeight(entry);
+			}
+		}
+		if(totalWeight == 0) {
+			return Move.NONE;
+		}
+		int pick = random.nextInt(totalWeight);
+
+		for(int entry = first; ; entry++) {
+			if(!isLegal(position, getMove(entry))) {
+				continue;
+			}
+			pick -= getWeight(entry);
+
+			if(pick < 0) {
+				return getMove(entry);
+			}
+		}
+	}
+
+	/**
+	 * Verifies a book move against the position without generating its moves,
+	 * so a lookup allocates nothing
+	 */
+	private static boolean isLegal(Position position, int move) {
+		return MoveGenerator.isPseudoLegal(position, move) && MoveGenerator.isLegal(position, move);
+	}
+}
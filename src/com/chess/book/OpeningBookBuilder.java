@@ -0,0 +1,228 @@
+package com.chess.book;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.chess.engine.Move;
+import com.chess.engine.Position;
+import com.chess.notation.Fen;
+import com.chess.notation.PgnGame;
+import com.chess.notation.PgnReader;
+
+/**
+ * Builds an opening book from the first moves of finished games. Every move
+ * is counted with the points it scored for the player making it, in an open
+ * addressing table keyed by position hash and move, so an archive of any
+ * size only needs memory for the distinct moves of its openings.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class OpeningBookBuilder {
+
+	public static final int DEFAULT_MAX_PLIES = 24;
+	public static final int DEFAULT_MIN_GAMES = 2;
+
+	private final int maxPlies; //Plies of each game added to the book
+	private final int minGames; //Games a move needs to be written to the book
+
+	//Counted moves, an empty slot having Move.NONE as its move
+	private long[] hashes = new long[1 << 16];
+	private int[] moves = new int[1 << 16];
+	private int[] points = new int[1 << 16];
+	private int[] games = new int[1 << 16];
+	private int size;
+
+	private final Position position = new Position();
+
+	/**
+	 * Constructor for OpeningBookBuilder objects
+	 *
+	 * @param maxPlies	Plies of each game added to the book
+	 * @param minGames	Games a move needs to be written to the book
+	 */
+	public OpeningBookBuilder(int maxPlies, int minGames) {
+		this.maxPlies = maxPlies;
+		this.minGames = Math.max(minGames, 1);
+	}
+
+	/**
+	 * Adds the first moves of a game. Games without a result, and the moves
+	 * after an illegal one, are left out.
+	 *
+	 * @param game	The game to add
+	 * @return		Whether the game was added
+	 */
+	public boolean addGame(PgnGame game) {
+		String result = game.getResult();
+		int whitePoints;
+
+		if("1-0".equals(result)) {
+			whitePoints = 2;
+		}
+		else if("0-1".equals(result)) {
+			whitePoints = 0;
+		}
+		else if("1/2-1/2".equals(result)) {
+			whitePoints = 1;
+		}
+		else {
+			return false;
+		}
+		String fen = game.getTag("FEN");
+
+		try {
+			Fen.parse(fen != null ? fen : Fen.STARTING_POSITION, position);
+		} catch(IllegalArgumentException e) {
+			return false;
+		}
+		int plies = Math.min(game.getMoveCount(), maxPlies);
+
+		for(int ply = 0; ply < plies; ply++) {
+			int move = game.getMove(ply);
+			count(position.getHash(), move, position.getSideToMove() == Position.WHITE ? whitePoints : 2 - whitePoints);
+			position.makeMove(move);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the games of a PGN archive
+	 *
+	 * @param archive	The archive to read
+	 * @return			Number of games added
+	 * @throws IOException	If the archive can't be read
+	 */
+	public long addArchive(Path archive) throws IOException {
+		PgnReader reader = PgnReader.open(archive);
+		PgnGame game = new PgnGame();
+		long added = 0;
+
+		try {
+			while(reader.readGame(game)) {
+				if(addGame(game)) {
+					added++;
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return added;
+	}
+
+	/**
+	 * @return Number of distinct moves counted so far, of any number of games
+	 */
+	public int getMoveCount() {
+		return size;
+	}
+
+	/**
+	 * Writes the book of the moves played in enough games, sorted by position
+	 * hash and then by weight, so OpeningBook can search it
+	 *
+	 * @param file	The book file to write
+	 * @return		Number of entries written
+	 * @throws IOException	If the file can't be written
+	 */
+	public int write(Path file) throws IOException {
+		Integer[] order = new Integer[size];
+		int entryCount = 0;
+
+		for(int slot = 0; slot < moves.length; slot++) {
+			if(moves[slot] != Move.NONE && games[slot] >= minGames) {
+				order[entryCount++] = slot;
+			}
+		}
+		order = Arrays.copyOf(order, entryCount);
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer first, Integer second) {
+				int byHash = Long.compare(hashes[first], hashes[second]);
+
+				if(byHash != 0) {
+					return byHash;
+				}
+				int byPoints = Integer.compare(points[second], points[first]);
+				return byPoints != 0 ? byPoints : Integer.compare(games[second], games[first]);
+			}
+		});
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+
+		try {
+			out.writeLong(OpeningBook.MAGIC);
+			out.writeLong(entryCount);
+
+			for(int slot : order) {
+				out.writeLong(hashes[slot]);
+				out.writeChar(moves[slot]);
+				out.writeChar(Math.min(points[slot], 0xFFFF));
+				out.writeInt(games[slot]);
+			}
+		} finally {
+			out.close();
+		}
+		return entryCount;
+	}
+
+	/**
+	 * Counts a move played from a position, with the points it scored
+	 */
+	private void count(long hash, int move, int score) {
+		if(size * 2 >= moves.length) {
+			grow();
+		}
+		int slot = find(hashes, moves, hash, move);
+
+		if(moves[slot] == Move.NONE) {
+			hashes[slot] = hash;
+			moves[slot] = move;
+			size++;
+		}
+		points[slot] = (int) Math.min((long) points[slot] + score, Integer.MAX_VALUE);
+		games[slot] = (int) Math.min((long) games[slot] + 1, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Doubles the table, moving every counted move to its new slot
+	 */
+	private void grow() {
+		long[] newHashes = new long[hashes.length * 2];
+		int[] newMoves = new int[moves.length * 2];
+		int[] newPoints = new int[points.length * 2];
+		int[] newGames = new int[games.length * 2];
+
+		for(int slot = 0; slot < moves.length; slot++) {
+			if(moves[slot] != Move.NONE) {
+				int newSlot = find(newHashes, newMoves, hashes[slot], moves[slot]);
+				newHashes[newSlot] = hashes[slot];
+				newMoves[newSlot] = moves[slot];
+				newPoints[newSlot] = points[slot];
+				newGames[newSlot] = games[slot];
+			}
+		}
+		hashes = newHashes;
+		moves = newMoves;
+		points = newPoints;
+		games = newGames;
+	}
+
+	/**
+	 * @return The slot holding the move of the position, or the empty slot where it belongs
+	 */
+	private static int find(long[] hashes, int[] moves, long hash, int move) {
+		int mask = moves.length - 1;
+		long mixed = (hash ^ move * 0x9E3779B97F4A7C15L) * 0xBF58476D1CE4E5B9L;
+		int slot = (int) (mixed >>> 32) & mask;
+
+		while(moves[slot] != Move.NONE && (hashes[slot] != hash || moves[slot] != move)) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+}
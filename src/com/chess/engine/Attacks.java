@@ -0,0 +1,167 @@
+package com.chess.engine;
+
+/**
+ * Precomputed attack tables. The squares attacked by a knight, king or pawn
+ * are a single lookup, and a sliding piece's attacks in each direction are the
+ * ray from its square cut short at the first occupied square, found with one
+ * bit scan of the ray's blockers.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Attacks {
+
+	//Ray directions, the first four moving to higher square numbers and the last four to lower ones
+	private static final int SOUTH = 0;
+	private static final int EAST = 1;
+	private static final int SOUTH_EAST = 2;
+	private static final int SOUTH_WEST = 3;
+	private static final int NORTH = 4;
+	private static final int WEST = 5;
+	private static final int NORTH_WEST = 6;
+	private static final int NORTH_EAST = 7;
+
+	private static final int[][] DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}, {-1, 0}, {0, -1}, {-1, -1}, {-1, 1}};
+
+	private static final long[] KNIGHT_ATTACKS = new long[64];
+	private static final long[] KING_ATTACKS = new long[64];
+	private static final long[][] PAWN_ATTACKS = new long[2][64]; //Indexed by the color of the attacking pawn
+	private static final long[][] RAYS = new long[8][64]; //Every square from a square to the board edge, by direction
+	private static final long[][] BETWEEN = new long[64][64]; //Squares strictly between two squares sharing a line
+	private static final long[][] LINES = new long[64][64]; //Whole line through two squares sharing a line
+
+	static {
+		int[][] knightSteps = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+
+		for(int square = 0; square < 64; square++) {
+			int row = Position.row(square);
+			int column = Position.column(square);
+
+			for(int[] step : knightSteps) {
+				KNIGHT_ATTACKS[square] |= bitAt(row + step[0], column + step[1]);
+			}
+			for(int direction = 0; direction < 8; direction++) {
+				int[] step = DIRECTIONS[direction];
+				KING_ATTACKS[square] |= bitAt(row + step[0], column + step[1]);
+
+				int x = row + step[0];
+				int y = column + step[1];
+
+				while(x > -1 && y > -1 && x < 8 && y < 8) {
+					RAYS[direction][square] |= 1L << Position.square(x, y);
+					x += step[0];
+					y += step[1];
+				}
+			}
+			//White pawns move towards row 0 and Black pawns towards row 7
+			PAWN_ATTACKS[Position.WHITE][square] = bitAt(row - 1, column - 1) | bitAt(row - 1, column + 1);
+			PAWN_ATTACKS[Position.BLACK][square] = bitAt(row + 1, column - 1) | bitAt(row + 1, column + 1);
+		}
+
+		for(int square = 0; square < 64; square++) {
+			for(int direction = 0; direction < 8; direction++) {
+				//Directions four apart are opposite each other
+				long line = RAYS[direction][square] | RAYS[(direction + 4) % 8][square] | (1L << square);
+				long between = 0;
+				long ray = RAYS[direction][square];
+
+				//Walk the ray outwards from the square, nearest square first
+				while(ray != 0) {
+					int target = direction < NORTH ? Long.numberOfTrailingZeros(ray) : 63 - Long.numberOfLeadingZeros(ray);
+					BETWEEN[square][target] = between;
+					LINES[square][target] = line;
+					between |= 1L << target;
+					ray ^= 1L << target;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return The squares a knight on the square attacks
+	 */
+	public static long knightAttacks(int square) {
+		return KNIGHT_ATTACKS[square];
+	}
+
+	/**
+	 * @return The squares a king on the square attacks
+	 */
+	public static long kingAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * @return The squares a pawn of the given color on the square attacks
+	 */
+	public static long pawnAttacks(int color, int square) {
+		return PAWN_ATTACKS[color][square];
+	}
+
+	/**
+	 * @return The squares a bishop on the square attacks, up to and including the first occupied square of each diagonal
+	 */
+	public static long bishopAttacks(int square, long occupied) {
+		return positiveRayAttacks(SOUTH_EAST, square, occupied) | positiveRayAttacks(SOUTH_WEST, square, occupied)
+				| negativeRayAttacks(NORTH_WEST, square, occupied) | negativeRayAttacks(NORTH_EAST, square, occupied);
+	}
+
+	/**
+	 * @return The squares a rook on the square attacks, up to and including the first occupied square of each line
+	 */
+	public static long rookAttacks(int square, long occupied) {
+		return positiveRayAttacks(SOUTH, square, occupied) | positiveRayAttacks(EAST, square, occupied)
+				| negativeRayAttacks(NORTH, square, occupied) | negativeRayAttacks(WEST, square, occupied);
+	}
+
+	/**
+	 * @return The squares a queen on the square attacks
+	 */
+	public static long queenAttacks(int square, long occupied) {
+		return bishopAttacks(square, occupied) | rookAttacks(square, occupied);
+	}
+
+	/**
+	 * @return The squares strictly between two squares on a shared row, column or diagonal, none otherwise
+	 */
+	public static long between(int from, int to) {
+		return BETWEEN[from][to];
+	}
+
+	/**
+	 * @return The whole row, column or diagonal through two squares, none if they don't share one
+	 */
+	public static long line(int from, int to) {
+		return LINES[from][to];
+	}
+
+	/**
+	 * The nearest blocker of a ray towards higher square numbers is its lowest set bit
+	 */
+	private static long positiveRayAttacks(int direction, int square, long occupied) {
+		long attacks = RAYS[direction][square];
+		long blockers = attacks & occupied;
+
+		if(blockers != 0) {
+			attacks ^= RAYS[direction][Long.numberOfTrailingZeros(blockers)];
+		}
+		return attacks;
+	}
+
+	/**
+	 * The nearest blocker of a ray towards lower square numbers is its highest set bit
+	 */
+	private static long negativeRayAttacks(int direction, int square, long occupied) {
+		long attacks = RAYS[direction][square];
+		long blockers = attacks & occupied;
+
+		if(blockers != 0) {
+			attacks ^= RAYS[direction][63 - Long.numberOfLeadingZeros(blockers)];
+		}
+		return attacks;
+	}
+
+	private static long bitAt(int x, int y) {
+		return x > -1 && y > -1 && x < 8 && y < 8 ? 1L << Position.square(x, y) : 0;
+	}
+}
@@ -0,0 +1,198 @@
+package com.chess.engine;
+
+import com.chess.enums.PieceColor;
+import com.chess.pieces.Bishop;
+import com.chess.pieces.ChessPiece;
+import com.chess.pieces.King;
+import com.chess.pieces.Knight;
+import com.chess.pieces.Pawn;
+import com.chess.pieces.Queen;
+import com.chess.pieces.Rook;
+
+/**
+ * Converts between the bitboard Position and the ChessPiece reference grid
+ * used by the GUI and the VerificationHelper movement methods
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class BoardAdapter {
+
+	/**
+	 * Builds a reference grid of chess pieces from a position, carrying over the
+	 * castling and En Passant state onto the pieces' first move flags
+	 *
+	 * @param position	The position to convert
+	 * @return			The array that references all the chess piece locations
+	 */
+	public static ChessPiece[][] toReferenceGrid(Position position) {
+		ChessPiece[][] referenceGrid = new ChessPiece[8][8];
+		int rights = position.getCastlingRights();
+		int enPassantSquare = position.getEnPassantSquare();
+
+		for(int square = 0; square < 64; square++) {
+			int piece = position.getPiece(square);
+
+			if(piece == Position.EMPTY) {
+				continue;
+			}
+			int x = Position.row(square);
+			int y = Position.column(square);
+			int color = Position.colorOf(piece);
+			ChessPiece chessPiece = createPiece(color, Position.typeOf(piece), x, y);
+			boolean hasMoved = false;
+
+			switch(Position.typeOf(piece)) {
+			case Position.PAWN:
+				hasMoved = x != (color == Position.WHITE ? 6 : 1);
+
+				//The pawn that just moved two spaces sits behind the En Passant square
+				if(enPassantSquare != Position.NO_SQUARE && color != position.getSideToMove()
+						&& square == enPassantSquare + (color == Position.WHITE ? -8 : 8)) {
+					((Pawn) chessPiece).makeValidForEnPassant();
+				}
+				break;
+			case Position.ROOK:
+				hasMoved = (rights & castlingRightOfRook(color, square)) == 0;
+				break;
+			case Position.KING:
+				hasMoved = (rights & castlingRightsOfColor(color)) == 0;
+				break;
+			}
+
+			//Moving a piece onto its own square only records that it has moved before
+			if(hasMoved) {
+				chessPiece.move(x, y);
+			}
+			referenceGrid[x][y] = chessPiece;
+		}
+		return referenceGrid;
+	}
+
+	/**
+	 * Builds a position from a reference grid of chess pieces, deriving the
+	 * castling rights from the King and Rook first move flags and the En Passant
+	 * square from the Pawn En Passant status
+	 *
+	 * @param referenceGrid	The array that references all the chess piece locations
+	 * @param playerTurn	Represents the player's turn
+	 * @return				The equivalent position
+	 */
+	public static Position fromReferenceGrid(ChessPiece[][] referenceGrid, PieceColor playerTurn) {
+		Position position = new Position();
+		int sideToMove = toColor(playerTurn);
+		int rights = 0;
+
+		position.setSideToMove(sideToMove);
+
+		for(int x = 0; x < 8; x++) {
+			for(int y = 0; y < 8; y++) {
+				ChessPiece chessPiece = referenceGrid[x][y];
+
+				if(chessPiece == null) {
+					continue;
+				}
+				int color = chessPiece.isPieceWhite() ? Position.WHITE : Position.BLACK;
+				int type = typeOf(chessPiece);
+				int square = Position.square(x, y);
+
+				position.addPiece(color, type, square);
+
+				if(chessPiece instanceof Pawn && color != sideToMove && ((Pawn) chessPiece).isPawnEnPassant()) {
+					position.setEnPassantSquare(square + (color == Position.WHITE ? 8 : -8));
+				}
+				else if(chessPiece instanceof Rook && ((Rook) chessPiece).hasNotMadeFirstMove()) {
+					rights |= castlingRightOfRook(color, square);
+				}
+			}
+		}
+
+		//Keep the rook rights only for a king that hasn't moved from its starting square
+		for(int color = Position.WHITE; color <= Position.BLACK; color++) {
+			int kingSquare = position.getKingSquare(color);
+			int homeSquare = Position.square(color == Position.WHITE ? 7 : 0, 4);
+
+			if(kingSquare != homeSquare || !((King) referenceGrid[Position.row(kingSquare)][Position.column(kingSquare)]).hasNotMadeFirstMove()) {
+				rights &= ~castlingRightsOfColor(color);
+			}
+		}
+		position.setCastlingRights(rights);
+		return position;
+	}
+
+	/**
+	 * Creates the chess piece object matching a piece type
+	 *
+	 * @param color	Color of the piece
+	 * @param type	Type of the piece
+	 * @param x		The x-coordinate location
+	 * @param y		The y-coordinate location
+	 * @return		The chess piece created
+	 */
+	public static ChessPiece createPiece(int color, int type, int x, int y) {
+		PieceColor pieceColor = toPieceColor(color);
+
+		switch(type) {
+		case Position.PAWN:
+			return new Pawn(pieceColor, x, y);
+		case Position.KNIGHT:
+			return new Knight(pieceColor, x, y);
+		case Position.BISHOP:
+			return new Bishop(pieceColor, x, y);
+		case Position.ROOK:
+			return new Rook(pieceColor, x, y);
+		case Position.QUEEN:
+			return new Queen(pieceColor, x, y);
+		default:
+			return new King(pieceColor, x, y);
+		}
+	}
+
+	/**
+	 * @return The piece type of a chess piece object
+	 */
+	public static int typeOf(ChessPiece chessPiece) {
+		if(chessPiece instanceof Pawn)
+			return Position.PAWN;
+		else if(chessPiece instanceof Knight)
+			return Position.KNIGHT;
+		else if(chessPiece instanceof Bishop)
+			return Position.BISHOP;
+		else if(chessPiece instanceof Rook)
+			return Position.ROOK;
+		else if(chessPiece instanceof Queen)
+			return Position.QUEEN;
+		return Position.KING;
+	}
+
+	public static int toColor(PieceColor pieceColor) {
+		return pieceColor == PieceColor.WHITE ? Position.WHITE : Position.BLACK;
+	}
+
+	public static PieceColor toPieceColor(int color) {
+		return color == Position.WHITE ? PieceColor.WHITE : PieceColor.BLACK;
+	}
+
+	/**
+	 * @return The castling right tied to a rook on the square, or 0 if it isn't a corner of its color
+	 */
+	private static int castlingRightOfRook(int color, int square) {
+		if(color == Position.WHITE) {
+			if(square == Position.square(7, 7))
+				return Position.WHITE_KINGSIDE;
+			else if(square == Position.square(7, 0))
+				return Position.WHITE_QUEENSIDE;
+		}
+		else {
+			if(square == Position.square(0, 7))
+				return Position.BLACK_KINGSIDE;
+			else if(square == Position.square(0, 0))
+				return Position.BLACK_QUEENSIDE;
+		}
+		return 0;
+	}
+
+	private static int castlingRightsOfColor(int color) {
+		return color == Position.WHITE ? Position.WHITE_KINGSIDE | Position.WHITE_QUEENSIDE : Position.BLACK_KINGSIDE | Position.BLACK_QUEENSIDE;
+	}
+}
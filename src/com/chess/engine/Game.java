@@ -0,0 +1,231 @@
+package com.chess.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.chess.enums.GameStatus;
+import com.chess.enums.PieceColor;
+
+/**
+ * Headless chess game holding the position, the player's turn, the moves
+ * played and the game status, without depending on any display. A Game is
+ * not thread safe, but separate games share no state and can be played on
+ * different threads.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Game {
+
+	private static final int FIFTY_MOVE_RULE_PLIES = 100; //Moves by both players without a capture or pawn move ending the game
+
+	private final Position position; //Current position of the game
+	private final List<Move> legalMoves = new ArrayList<Move>(); //Legal moves available to the player to move
+	private final List<Move> moveHistory = new ArrayList<Move>(); //Moves played since the game started
+	private GameStatus status; //Status of the game for the player to move
+
+	/**
+	 * Default constructor starting a game from the standard starting position
+	 */
+	public Game() {
+		this(Position.startingPosition());
+	}
+
+	/**
+	 * Constructor starting a game from any position
+	 *
+	 * @param position	The position to start from, owned by the game afterwards
+	 */
+	public Game(Position position) {
+		this.position = position;
+		updateStatus();
+	}
+
+	/**
+	 * Copies the game, letting another thread read it while this one keeps
+	 * being played. The copy can't take back the moves played before it was
+	 * made, nor count repetitions of the positions they reached.
+	 *
+	 * @return A copy of the game
+	 */
+	public Game copy() {
+		Game copy = new Game(position.copy(), status);
+		copy.legalMoves.addAll(legalMoves);
+		copy.moveHistory.addAll(moveHistory);
+		return copy;
+	}
+
+	private Game(Position position, GameStatus status) {
+		this.position = position;
+		this.status = status;
+	}
+
+	/**
+	 * Plays a move if it is legal for the player to move
+	 *
+	 * @param move	The move to play
+	 * @return		Whether the move was legal and has been played
+	 */
+	public boolean applyMove(Move move) {
+		if(isGameOver() || !legalMoves.contains(move)) {
+			return false;
+		}
+		position.makeMove(move);
+		moveHistory.add(move);
+		updateStatus();
+		return true;
+	}
+
+	/**
+	 * Takes back the last move played
+	 *
+	 * @return Whether there was a move to take back
+	 */
+	public boolean undoMove() {
+		if(moveHistory.isEmpty() || position.getHistorySize() == 0) {
+			return false;
+		}
+		position.unmakeMove();
+		moveHistory.remove(moveHistory.size() - 1);
+		updateStatus();
+		return true;
+	}
+
+	/**
+	 * Searches the legal moves for one going between two squares
+	 *
+	 * @param from		Origin square
+	 * @param to		Target square
+	 * @param promotion	Piece type to promote to, only used when the move is a promotion
+	 * @return			The matching legal move, or null if there is none
+	 */
+	public Move findLegalMove(int from, int to, int promotion) {
+		for(Move move : legalMoves) {
+			if(move.getFrom() == from && move.getTo() == to
+					&& (move.getFlag() != Move.PROMOTION || move.getPromotion() == promotion)) {
+				return move;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return The legal moves available to the player to move
+	 */
+	public List<Move> getLegalMoves() {
+		return Collections.unmodifiableList(legalMoves);
+	}
+
+	/**
+	 * @param square	Square of the piece to move
+	 * @return			The legal moves of the piece located on the square
+	 */
+	public List<Move> getLegalMoves(int square) {
+		List<Move> moves = new ArrayList<Move>();
+
+		for(Move move : legalMoves) {
+			if(move.getFrom() == square) {
+				moves.add(move);
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * @return The current position, which must not be modified directly
+	 */
+	public Position getPosition() {
+		return position;
+	}
+
+	/**
+	 * @return The moves played since the game started
+	 */
+	public List<Move> getMoveHistory() {
+		return Collections.unmodifiableList(moveHistory);
+	}
+
+	/**
+	 * @return Represents who's turn it is in the game
+	 */
+	public PieceColor getPlayerTurn() {
+		return BoardAdapter.toPieceColor(position.getSideToMove());
+	}
+
+	public GameStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return Whether the game has ended by checkmate, stalemate or one of the draw rules
+	 */
+	public boolean isGameOver() {
+		return status != GameStatus.ONGOING && status != GameStatus.CHECK;
+	}
+
+	/**
+	 * @return The color of the player who delivered checkmate, or null if nobody has won
+	 */
+	public PieceColor getWinner() {
+		if(status != GameStatus.CHECKMATE) {
+			return null;
+		}
+		return BoardAdapter.toPieceColor(position.getSideToMove() ^ 1);
+	}
+
+	/**
+	 * Evaluates the status of a position for the player to move, including
+	 * the draw rules. A move that checkmates ends the game even when it also
+	 * completes a draw rule.
+	 *
+	 * @param position	The position to evaluate
+	 * @return			The status of the game in the position
+	 */
+	public static GameStatus statusOf(Position position) {
+		return applyDrawRules(position, MoveGenerator.getStatus(position));
+	}
+
+	/**
+	 * Turns the status given by the legal moves of a position into the status
+	 * of the game, ending it when one of the draw rules applies
+	 *
+	 * @param position	The position to evaluate
+	 * @param status	CHECKMATE, STALEMATE, CHECK or ONGOING, from the legal moves alone
+	 * @return			The status of the game in the position
+	 */
+	private static GameStatus applyDrawRules(Position position, GameStatus status) {
+		if(status == GameStatus.CHECKMATE || status == GameStatus.STALEMATE) {
+			return status;
+		}
+		if(position.getHalfmoveClock() >= FIFTY_MOVE_RULE_PLIES) {
+			return GameStatus.DRAW_BY_FIFTY_MOVE_RULE;
+		}
+		//The third occurrence of a position ends the game
+		if(position.countRepetitions() >= 2) {
+			return GameStatus.DRAW_BY_REPETITION;
+		}
+		if(position.hasInsufficientMaterial()) {
+			return GameStatus.DRAW_BY_INSUFFICIENT_MATERIAL;
+		}
+		return status;
+	}
+
+	/**
+	 * Recomputes the legal moves and the status for the player to move, the
+	 * status following from the moves just generated
+	 */
+	private void updateStatus() {
+		legalMoves.clear();
+		MoveGenerator.generateLegalMoves(position, legalMoves);
+
+		boolean inCheck = MoveGenerator.isInCheck(position);
+
+		if(legalMoves.isEmpty()) {
+			status = applyDrawRules(position, inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE);
+		}
+		else {
+			status = applyDrawRules(position, inCheck ? GameStatus.CHECK : GameStatus.ONGOING);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.chess.engine;
+
+/**
+ * Represents a single move on a Position, holding its origin and target
+ * squares along with any special rule it triggers. The move generator and the
+ * search work on moves encoded into the low 16 bits of an int instead, with
+ * the origin square in bits 0-5, the target square in bits 6-11 and the
+ * special rule in bits 12-15, where the promotions take one value per piece
+ * type. The static methods of this class build and read those codes.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public final class Move {
+
+	public static final int NORMAL = 0;
+	public static final int DOUBLE_PAWN_PUSH = 1;
+	public static final int EN_PASSANT = 2;
+	public static final int CASTLING = 3;
+	public static final int PROMOTION = 4;
+
+	public static final int NONE = 0; //Encoded value standing for no move, as a move from a square to itself can't be played
+
+	private static final int TO_SHIFT = 6;
+	private static final int KIND_SHIFT = 12;
+	private static final int SQUARE_MASK = 0x3F;
+
+	private final int from; //Square the piece is moving from
+	private final int to; //Square the piece is moving to
+	private final int flag; //Special rule applied by the move
+	private final int promotion; //Piece type a pawn is promoted to, only used by promotions
+
+	/**
+	 * Constructor for moves without a promotion
+	 *
+	 * @param from	Origin square
+	 * @param to	Target square
+	 * @param flag	Special rule applied by the move
+	 */
+	public Move(int from, int to, int flag) {
+		this(from, to, flag, Position.PAWN);
+	}
+
+	/**
+	 * Constructor for Move objects
+	 *
+	 * @param from		Origin square
+	 * @param to		Target square
+	 * @param flag		Special rule applied by the move
+	 * @param promotion	Piece type a pawn is promoted to
+	 */
+	public Move(int from, int to, int flag, int promotion) {
+		this.from = from;
+		this.to = to;
+		this.flag = flag;
+		this.promotion = promotion;
+	}
+
+	public int getFrom() {
+		return from;
+	}
+
+	public int getTo() {
+		return to;
+	}
+
+	public int getFlag() {
+		return flag;
+	}
+
+	public int getPromotion() {
+		return promotion;
+	}
+
+	/**
+	 * @return The move encoded into 16 bits
+	 */
+	public int getCode() {
+		return encode(from, to, flag, promotion);
+	}
+
+	/**
+	 * Encodes a move without a promotion
+	 *
+	 * @param from	Origin square
+	 * @param to	Target square
+	 * @param flag	Special rule applied by the move
+	 * @return		The move encoded into 16 bits
+	 */
+	public static int encode(int from, int to, int flag) {
+		return from | (to << TO_SHIFT) | (flag << KIND_SHIFT);
+	}
+
+	/**
+	 * Encodes a move, folding the promotion piece into the special rule so the
+	 * code fits into 16 bits
+	 *
+	 * @param from		Origin square
+	 * @param to		Target square
+	 * @param flag		Special rule applied by the move
+	 * @param promotion	Piece type a pawn is promoted to, only used by promotions
+	 * @return			The move encoded into 16 bits
+	 */
+	public static int encode(int from, int to, int flag, int promotion) {
+		int kind = flag == PROMOTION ? PROMOTION + promotion - Position.KNIGHT : flag;
+		return from | (to << TO_SHIFT) | (kind << KIND_SHIFT);
+	}
+
+	/**
+	 * @param move	An encoded move
+	 * @return		A Move object for the encoded move
+	 */
+	public static Move decode(int move) {
+		return new Move(fromOf(move), toOf(move), flagOf(move), promotionOf(move));
+	}
+
+	public static int fromOf(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int toOf(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	public static int flagOf(int move) {
+		return Math.min(move >>> KIND_SHIFT, PROMOTION);
+	}
+
+	/**
+	 * @return The piece type an encoded promotion promotes to, PAWN for any other move
+	 */
+	public static int promotionOf(int move) {
+		int kind = move >>> KIND_SHIFT;
+		return kind < PROMOTION ? Position.PAWN : kind - PROMOTION + Position.KNIGHT;
+	}
+
+	/**
+	 * @return The encoded move in coordinate notation, such as "e2e4" or "e7e8q"
+	 */
+	public static String toString(int move) {
+		String text = Position.squareName(fromOf(move)) + Position.squareName(toOf(move));
+
+		if(flagOf(move) == PROMOTION) {
+			text += "pnbrqk".charAt(promotionOf(move));
+		}
+		return text;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if(!(other instanceof Move)) {
+			return false;
+		}
+		Move move = (Move) other;
+		return from == move.from && to == move.to && flag == move.flag && promotion == move.promotion;
+	}
+
+	@Override
+	public int hashCode() {
+		return from | (to << 6) | (flag << 12) | (promotion << 15);
+	}
+
+	/**
+	 * @return The move in coordinate notation, such as "e2e4" or "e7e8q"
+	 */
+	@Override
+	public String toString() {
+		return toString(getCode());
+	}
+}
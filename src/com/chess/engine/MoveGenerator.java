@@ -0,0 +1,611 @@
+package com.chess.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.chess.enums.GameStatus;
+
+/**
+ * Generates the legal moves of a bitboard Position from check and pin masks,
+ * and answers attack queries for its squares
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class MoveGenerator {
+
+	private static final long NOT_FILE_A = ~Position.FILE_A;
+	private static final long NOT_FILE_H = ~Position.FILE_H;
+
+	private static final long WHITE_PROMOTION_ROW = 0xFFL; //Row 0
+	private static final long BLACK_PROMOTION_ROW = 0xFFL << 56; //Row 7
+	private static final long WHITE_SINGLE_PUSH_ROW = 0xFFL << 40; //Row 5, reached by one step from the white pawns' starting row
+	private static final long BLACK_SINGLE_PUSH_ROW = 0xFFL << 16; //Row 2, reached by one step from the black pawns' starting row
+
+	//Kinds of moves to generate, combined as a bit mask
+	private static final int CAPTURES = 1; //Captures, En Passant and promotions
+	private static final int QUIET_MOVES = 2; //Every other move, castling included
+	private static final int ALL_MOVES = CAPTURES | QUIET_MOVES;
+
+	/**
+	 * Searches for all legal moves available to the side to move
+	 *
+	 * @param position	The position to generate moves for
+	 * @return			The list of legal moves found
+	 */
+	public static List<Move> generateLegalMoves(Position position) {
+		return generateLegalMoves(position, new ArrayList<Move>());
+	}
+
+	/**
+	 * Searches for all legal moves available to the side to move
+	 *
+	 * @param position	The position to generate moves for
+	 * @param moves		The list for storing the legal moves found
+	 * @return			The list of legal moves found
+	 */
+	public static List<Move> generateLegalMoves(Position position, List<Move> moves) {
+		MoveList buffer = new MoveList();
+		generateLegalMoves(position, buffer);
+		return buffer.addTo(moves);
+	}
+
+	/**
+	 * Searches for all legal moves available to the side to move, without
+	 * creating any objects. The pieces giving check and the pieces pinned to
+	 * the king are found once, then every piece's targets are masked so only
+	 * legal moves are generated. Only king moves and En Passant captures are
+	 * tested against the attacks of the enemy pieces.
+	 *
+	 * @param position	The position to generate moves for
+	 * @param moves		The list for storing the encoded legal moves found
+	 * @return			The list of legal moves found
+	 */
+	public static MoveList generateLegalMoves(Position position, MoveList moves) {
+		return generateLegalMoves(position, ALL_MOVES, moves);
+	}
+
+	/**
+	 * Searches for the legal captures, En Passant captures and promotions of
+	 * the side to move, the moves a search tries before the quiet ones
+	 *
+	 * @param position	The position to generate moves for
+	 * @param moves		The list for storing the encoded legal moves found
+	 * @return			The list of legal moves found
+	 */
+	public static MoveList generateLegalCaptures(Position position, MoveList moves) {
+		return generateLegalMoves(position, CAPTURES, moves);
+	}
+
+	/**
+	 * Searches for the legal moves of the side to move that neither capture
+	 * nor promote, castling included
+	 *
+	 * @param position	The position to generate moves for
+	 * @param moves		The list for storing the encoded legal moves found
+	 * @return			The list of legal moves found
+	 */
+	public static MoveList generateLegalQuietMoves(Position position, MoveList moves) {
+		return generateLegalMoves(position, QUIET_MOVES, moves);
+	}
+
+	private static MoveList generateLegalMoves(Position position, int kinds, MoveList moves) {
+		int us = position.getSideToMove();
+		int kingSquare = position.getKingSquare(us);
+
+		//Without a king nothing can be left in check
+		if(kingSquare == Position.NO_SQUARE) {
+			generateMoves(position, ~0L, 0, false, kinds, moves);
+			return moves;
+		}
+		long checkers = position.getAttackers(kingSquare, us ^ 1, position.getOccupied());
+		generateMoves(position, checkMask(kingSquare, checkers), findPinnedPieces(position, us, kingSquare), true, kinds, moves);
+		return moves;
+	}
+
+	/**
+	 * Evaluates the status of the game for the side to move, stopping at the
+	 * first legal move found instead of generating all of them
+	 *
+	 * @param position	The position to evaluate
+	 * @return			CHECKMATE, STALEMATE, CHECK or ONGOING
+	 */
+	public static GameStatus getStatus(Position position) {
+		int us = position.getSideToMove();
+		int kingSquare = position.getKingSquare(us);
+
+		if(kingSquare == Position.NO_SQUARE) {
+			MoveList moves = new MoveList();
+			generatePseudoLegalMoves(position, moves);
+			return moves.isEmpty() ? GameStatus.STALEMATE : GameStatus.ONGOING;
+		}
+		//The checkers found here both tell whether the king is in check and mask the moves searched
+		long checkers = position.getAttackers(kingSquare, us ^ 1, position.getOccupied());
+		boolean hasLegalMove = hasLegalMove(position, us, kingSquare, checkers);
+
+		if(checkers != 0) {
+			return hasLegalMove ? GameStatus.CHECK : GameStatus.CHECKMATE;
+		}
+		return hasLegalMove ? GameStatus.ONGOING : GameStatus.STALEMATE;
+	}
+
+	/**
+	 * @param position	The position to inspect
+	 * @return			Whether the side to move has at least one legal move
+	 */
+	public static boolean hasLegalMove(Position position) {
+		int us = position.getSideToMove();
+		int kingSquare = position.getKingSquare(us);
+
+		if(kingSquare == Position.NO_SQUARE) {
+			return getStatus(position) == GameStatus.ONGOING;
+		}
+		return hasLegalMove(position, us, kingSquare, position.getAttackers(kingSquare, us ^ 1, position.getOccupied()));
+	}
+
+	/**
+	 * Looks for a single legal move, trying the king first since it is the only
+	 * piece able to answer every check. Castling needs no test: whenever it is
+	 * legal, so is the king's step towards the rook.
+	 */
+	private static boolean hasLegalMove(Position position, int us, int kingSquare, long checkers) {
+		int them = us ^ 1;
+		long own = position.getOccupancy(us);
+		long occupied = position.getOccupied();
+		long kingTargets = Attacks.kingAttacks(kingSquare) & ~own;
+		long occupiedWithoutKing = occupied ^ (1L << kingSquare);
+
+		while(kingTargets != 0) {
+			if(position.getAttackers(Long.numberOfTrailingZeros(kingTargets), them, occupiedWithoutKing) == 0) {
+				return true;
+			}
+			kingTargets &= kingTargets - 1;
+		}
+		long checkMask = checkMask(kingSquare, checkers);
+
+		if(checkMask == 0) {
+			return false;
+		}
+		long pinned = findPinnedPieces(position, us, kingSquare);
+		long knights = position.getPieceBitboard(us, Position.KNIGHT) & ~pinned;
+
+		while(knights != 0) {
+			if((Attacks.knightAttacks(Long.numberOfTrailingZeros(knights)) & ~own & checkMask) != 0) {
+				return true;
+			}
+			knights &= knights - 1;
+		}
+		long queens = position.getPieceBitboard(us, Position.QUEEN);
+		long diagonalSliders = position.getPieceBitboard(us, Position.BISHOP) | queens;
+
+		while(diagonalSliders != 0) {
+			int from = Long.numberOfTrailingZeros(diagonalSliders);
+
+			if((Attacks.bishopAttacks(from, occupied) & ~own & checkMask & pinMask(from, pinned, kingSquare)) != 0) {
+				return true;
+			}
+			diagonalSliders &= diagonalSliders - 1;
+		}
+		long straightSliders = position.getPieceBitboard(us, Position.ROOK) | queens;
+
+		while(straightSliders != 0) {
+			int from = Long.numberOfTrailingZeros(straightSliders);
+
+			if((Attacks.rookAttacks(from, occupied) & ~own & checkMask & pinMask(from, pinned, kingSquare)) != 0) {
+				return true;
+			}
+			straightSliders &= straightSliders - 1;
+		}
+		long pawns = position.getPieceBitboard(us, Position.PAWN);
+
+		while(pawns != 0) {
+			int from = Long.numberOfTrailingZeros(pawns);
+
+			if((pawnTargets(position, us, from) & checkMask & pinMask(from, pinned, kingSquare)) != 0) {
+				return true;
+			}
+			pawns &= pawns - 1;
+		}
+
+		//Check if a move for En Passant is possible
+		int enPassantSquare = position.getEnPassantSquare();
+
+		if(enPassantSquare != Position.NO_SQUARE) {
+			long attackers = Attacks.pawnAttacks(them, enPassantSquare) & position.getPieceBitboard(us, Position.PAWN);
+
+			while(attackers != 0) {
+				if(isLegal(position, Move.encode(Long.numberOfTrailingZeros(attackers), enPassantSquare, Move.EN_PASSANT))) {
+					return true;
+				}
+				attackers &= attackers - 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The squares a pawn can push or capture to, leaving aside En Passant
+	 */
+	private static long pawnTargets(Position position, int us, int from) {
+		long empty = ~position.getOccupied();
+		long captures = Attacks.pawnAttacks(us, from) & position.getOccupancy(us ^ 1);
+
+		if(us == Position.WHITE) {
+			long singlePush = (1L << from >>> 8) & empty;
+			return captures | singlePush | (((singlePush & WHITE_SINGLE_PUSH_ROW) >>> 8) & empty);
+		}
+		long singlePush = (1L << from << 8) & empty;
+		return captures | singlePush | (((singlePush & BLACK_SINGLE_PUSH_ROW) << 8) & empty);
+	}
+
+	/**
+	 * @return The squares a piece other than the king may move to given the pieces checking the king
+	 */
+	private static long checkMask(int kingSquare, long checkers) {
+		if(checkers == 0) {
+			return ~0L;
+		}
+		//A single check is answered by capturing the checker or blocking between it and the king
+		if((checkers & (checkers - 1)) == 0) {
+			return checkers | Attacks.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+		}
+		//Only the king can answer a double check
+		return 0;
+	}
+
+	/**
+	 * Verifies whether an encoded move follows the piece movement rules in a
+	 * position, without verifying whether it leaves the moving side's king in
+	 * check. Lets a move remembered from another position, such as a killer
+	 * move or a transposition table move, be tried without generating moves.
+	 *
+	 * @param position	The position the move would be played from
+	 * @param move		The encoded move to verify
+	 * @return			Whether the move is pseudo-legal
+	 */
+	public static boolean isPseudoLegal(Position position, int move) {
+		int us = position.getSideToMove();
+		int from = Move.fromOf(move);
+		int to = Move.toOf(move);
+		int flag = Move.flagOf(move);
+		int piece = position.getPiece(from);
+		long target = 1L << to;
+
+		if(move == Move.NONE || piece == Position.EMPTY || Position.colorOf(piece) != us || (position.getOccupancy(us) & target) != 0) {
+			return false;
+		}
+		int type = Position.typeOf(piece);
+		long occupied = position.getOccupied();
+
+		switch(type) {
+		case Position.PAWN:
+			if(flag == Move.EN_PASSANT) {
+				return to == position.getEnPassantSquare() && (Attacks.pawnAttacks(us, from) & target) != 0;
+			}
+			long promotionRow = us == Position.WHITE ? WHITE_PROMOTION_ROW : BLACK_PROMOTION_ROW;
+
+			if((flag == Move.PROMOTION) != ((target & promotionRow) != 0) || (flag == Move.DOUBLE_PAWN_PUSH) != (Math.abs(to - from) == 16)
+					|| flag == Move.CASTLING) {
+				return false;
+			}
+			return (pawnTargets(position, us, from) & target) != 0;
+		case Position.KING:
+			if(flag == Move.CASTLING) {
+				return from == Position.square(us == Position.WHITE ? 7 : 0, 4) && Math.abs(to - from) == 2
+						&& !isSquareAttacked(position, from, us ^ 1) && canCastle(position, us, from, to > from);
+			}
+			return flag == Move.NORMAL && (Attacks.kingAttacks(from) & target) != 0;
+		case Position.KNIGHT:
+			return flag == Move.NORMAL && (Attacks.knightAttacks(from) & target) != 0;
+		case Position.BISHOP:
+			return flag == Move.NORMAL && (Attacks.bishopAttacks(from, occupied) & target) != 0;
+		case Position.ROOK:
+			return flag == Move.NORMAL && (Attacks.rookAttacks(from, occupied) & target) != 0;
+		default:
+			return flag == Move.NORMAL && (Attacks.queenAttacks(from, occupied) & target) != 0;
+		}
+	}
+
+	/**
+	 * Verifies that a pseudo-legal move doesn't leave the moving side's king in check
+	 *
+	 * @param position	The position the move is played from
+	 * @param move		The pseudo-legal move to verify
+	 * @return			Whether the move is legal
+	 */
+	public static boolean isLegal(Position position, Move move) {
+		return isLegal(position, move.getCode());
+	}
+
+	/**
+	 * Verifies that a pseudo-legal encoded move doesn't leave the moving side's king in check
+	 *
+	 * @param position	The position the move is played from
+	 * @param move		The encoded pseudo-legal move to verify
+	 * @return			Whether the move is legal
+	 */
+	public static boolean isLegal(Position position, int move) {
+		int us = position.getSideToMove();
+		position.makeMove(move);
+
+		int kingSquare = position.getKingSquare(us);
+		boolean legal = kingSquare == Position.NO_SQUARE || !isSquareAttacked(position, kingSquare, us ^ 1);
+
+		position.unmakeMove();
+		return legal;
+	}
+
+	/**
+	 * Searches for every move following the piece movement rules, without
+	 * verifying whether the moving side's king is left in check
+	 *
+	 * @param position	The position to generate moves for
+	 * @param moves		The list for storing the moves found
+	 */
+	public static void generatePseudoLegalMoves(Position position, List<Move> moves) {
+		MoveList buffer = new MoveList();
+		generatePseudoLegalMoves(position, buffer);
+		buffer.addTo(moves);
+	}
+
+	/**
+	 * Searches for every move following the piece movement rules, without
+	 * verifying whether the moving side's king is left in check
+	 *
+	 * @param position	The position to generate moves for
+	 * @param moves		The list for storing the encoded moves found
+	 */
+	public static void generatePseudoLegalMoves(Position position, MoveList moves) {
+		generateMoves(position, ~0L, 0, false, ALL_MOVES, moves);
+	}
+
+	/**
+	 * @return The pieces of the given color that can't leave the line between their king and an enemy slider
+	 */
+	private static long findPinnedPieces(Position position, int us, int kingSquare) {
+		int them = us ^ 1;
+		long queens = position.getPieceBitboard(them, Position.QUEEN);
+		long snipers = (Attacks.rookAttacks(kingSquare, 0) & (position.getPieceBitboard(them, Position.ROOK) | queens))
+				| (Attacks.bishopAttacks(kingSquare, 0) & (position.getPieceBitboard(them, Position.BISHOP) | queens));
+		long own = position.getOccupancy(us);
+		long occupied = position.getOccupied();
+		long pinned = 0;
+
+		while(snipers != 0) {
+			long blockers = Attacks.between(kingSquare, Long.numberOfTrailingZeros(snipers)) & occupied;
+
+			//A lone piece of the king's color between the king and the slider is pinned
+			if(blockers != 0 && (blockers & (blockers - 1)) == 0 && (blockers & own) != 0) {
+				pinned |= blockers;
+			}
+			snipers &= snipers - 1;
+		}
+		return pinned;
+	}
+
+	/**
+	 * Generates the moves of the side to move
+	 *
+	 * @param position	The position to generate moves for
+	 * @param checkMask	Squares a piece other than the king may move to, all of them when not in check
+	 * @param pinned	Pieces that may only move along the line through their king
+	 * @param legal		Whether king moves and En Passant captures must be tested for legality
+	 * @param kinds		The kinds of moves to generate, CAPTURES, QUIET_MOVES or both
+	 * @param moves		The list for storing the moves found
+	 */
+	private static void generateMoves(Position position, long checkMask, long pinned, boolean legal, int kinds, MoveList moves) {
+		int us = position.getSideToMove();
+		int them = us ^ 1;
+		long enemy = position.getOccupancy(them);
+		long occupied = position.getOccupied();
+		long empty = ~occupied;
+		int kingSquare = position.getKingSquare(us);
+
+		//Squares the pieces other than pawns may move to
+		long allowed = ((kinds & CAPTURES) != 0 ? enemy : 0) | ((kinds & QUIET_MOVES) != 0 ? empty : 0);
+
+		//In a double check only the king has moves
+		if(checkMask != 0) {
+			generatePawnMoves(position, us, enemy, empty, checkMask, pinned, kingSquare, legal, kinds, moves);
+
+			long knights = position.getPieceBitboard(us, Position.KNIGHT) & ~pinned;
+
+			while(knights != 0) {
+				int from = Long.numberOfTrailingZeros(knights);
+				addMoves(from, Attacks.knightAttacks(from) & allowed & checkMask, moves);
+				knights &= knights - 1;
+			}
+
+			long diagonalSliders = position.getPieceBitboard(us, Position.BISHOP) | position.getPieceBitboard(us, Position.QUEEN);
+
+			while(diagonalSliders != 0) {
+				int from = Long.numberOfTrailingZeros(diagonalSliders);
+				addMoves(from, Attacks.bishopAttacks(from, occupied) & allowed & checkMask & pinMask(from, pinned, kingSquare), moves);
+				diagonalSliders &= diagonalSliders - 1;
+			}
+
+			long straightSliders = position.getPieceBitboard(us, Position.ROOK) | position.getPieceBitboard(us, Position.QUEEN);
+
+			while(straightSliders != 0) {
+				int from = Long.numberOfTrailingZeros(straightSliders);
+				addMoves(from, Attacks.rookAttacks(from, occupied) & allowed & checkMask & pinMask(from, pinned, kingSquare), moves);
+				straightSliders &= straightSliders - 1;
+			}
+		}
+
+		if(kingSquare != Position.NO_SQUARE) {
+			long targets = Attacks.kingAttacks(kingSquare) & allowed;
+
+			if(legal) {
+				//The king is taken off the board so it can't hide behind itself from a slider
+				long occupiedWithoutKing = occupied ^ (1L << kingSquare);
+				long safeTargets = 0;
+
+				while(targets != 0) {
+					int to = Long.numberOfTrailingZeros(targets);
+
+					if(position.getAttackers(to, them, occupiedWithoutKing) == 0) {
+						safeTargets |= 1L << to;
+					}
+					targets &= targets - 1;
+				}
+				targets = safeTargets;
+			}
+			addMoves(kingSquare, targets, moves);
+
+			if(checkMask == ~0L && (kinds & QUIET_MOVES) != 0) {
+				generateCastlingMoves(position, us, kingSquare, moves);
+			}
+		}
+	}
+
+	/**
+	 * @return The squares a piece may move to without breaking a pin, all of them if it isn't pinned
+	 */
+	private static long pinMask(int from, long pinned, int kingSquare) {
+		return (pinned & (1L << from)) == 0 ? ~0L : Attacks.line(kingSquare, from);
+	}
+
+	private static void generatePawnMoves(Position position, int us, long enemy, long empty, long checkMask,
+			long pinned, int kingSquare, boolean legal, int kinds, MoveList moves) {
+		long pawns = position.getPieceBitboard(us, Position.PAWN);
+		long promotionRow = us == Position.WHITE ? WHITE_PROMOTION_ROW : BLACK_PROMOTION_ROW;
+
+		//Pushes onto the promotion row are generated with the captures
+		long pushMask = checkMask & (((kinds & CAPTURES) != 0 ? promotionRow : 0) | ((kinds & QUIET_MOVES) != 0 ? ~promotionRow : 0));
+		long captureMask = (kinds & CAPTURES) != 0 ? enemy & checkMask : 0;
+		long doublePushMask = (kinds & QUIET_MOVES) != 0 ? empty & checkMask : 0;
+
+		if(us == Position.WHITE) {
+			long singlePushes = (pawns >>> 8) & empty;
+			addPawnMoves(singlePushes & pushMask, -8, Move.NORMAL, WHITE_PROMOTION_ROW, pinned, kingSquare, moves);
+			addPawnMoves(((singlePushes & WHITE_SINGLE_PUSH_ROW) >>> 8) & doublePushMask, -16, Move.DOUBLE_PAWN_PUSH, 0, pinned, kingSquare, moves);
+			addPawnMoves((pawns >>> 7) & NOT_FILE_A & captureMask, -7, Move.NORMAL, WHITE_PROMOTION_ROW, pinned, kingSquare, moves);
+			addPawnMoves((pawns >>> 9) & NOT_FILE_H & captureMask, -9, Move.NORMAL, WHITE_PROMOTION_ROW, pinned, kingSquare, moves);
+		}
+		else {
+			long singlePushes = (pawns << 8) & empty;
+			addPawnMoves(singlePushes & pushMask, 8, Move.NORMAL, BLACK_PROMOTION_ROW, pinned, kingSquare, moves);
+			addPawnMoves(((singlePushes & BLACK_SINGLE_PUSH_ROW) << 8) & doublePushMask, 16, Move.DOUBLE_PAWN_PUSH, 0, pinned, kingSquare, moves);
+			addPawnMoves((pawns << 9) & NOT_FILE_A & captureMask, 9, Move.NORMAL, BLACK_PROMOTION_ROW, pinned, kingSquare, moves);
+			addPawnMoves((pawns << 7) & NOT_FILE_H & captureMask, 7, Move.NORMAL, BLACK_PROMOTION_ROW, pinned, kingSquare, moves);
+		}
+
+		//Check if a move for En Passant is possible
+		int enPassantSquare = position.getEnPassantSquare();
+
+		if(enPassantSquare != Position.NO_SQUARE && (kinds & CAPTURES) != 0) {
+			long attackers = Attacks.pawnAttacks(us ^ 1, enPassantSquare) & pawns;
+
+			while(attackers != 0) {
+				int move = Move.encode(Long.numberOfTrailingZeros(attackers), enPassantSquare, Move.EN_PASSANT);
+
+				//Removing two pawns from one row can expose the king in ways the masks don't cover
+				if(!legal || isLegal(position, move)) {
+					moves.add(move);
+				}
+				attackers &= attackers - 1;
+			}
+		}
+	}
+
+	/**
+	 * Adds the pawn moves landing on each target square, expanding moves that
+	 * reach the promotion row into the four possible promotions
+	 */
+	private static void addPawnMoves(long targets, int offset, int flag, long promotionRow, long pinned, int kingSquare, MoveList moves) {
+		while(targets != 0) {
+			int to = Long.numberOfTrailingZeros(targets);
+			int from = to - offset;
+			targets &= targets - 1;
+
+			if((pinMask(from, pinned, kingSquare) & (1L << to)) == 0) {
+				continue;
+			}
+			if(((1L << to) & promotionRow) != 0) {
+				moves.add(Move.encode(from, to, Move.PROMOTION, Position.QUEEN));
+				moves.add(Move.encode(from, to, Move.PROMOTION, Position.KNIGHT));
+				moves.add(Move.encode(from, to, Move.PROMOTION, Position.ROOK));
+				moves.add(Move.encode(from, to, Move.PROMOTION, Position.BISHOP));
+			}
+			else {
+				moves.add(Move.encode(from, to, flag));
+			}
+		}
+	}
+
+	private static void addMoves(int from, long targets, MoveList moves) {
+		while(targets != 0) {
+			moves.add(Move.encode(from, Long.numberOfTrailingZeros(targets), Move.NORMAL));
+			targets &= targets - 1;
+		}
+	}
+
+	private static void generateCastlingMoves(Position position, int us, int kingSquare, MoveList moves) {
+		int kingside = us == Position.WHITE ? Position.WHITE_KINGSIDE : Position.BLACK_KINGSIDE;
+		int queenside = us == Position.WHITE ? Position.WHITE_QUEENSIDE : Position.BLACK_QUEENSIDE;
+
+		if((position.getCastlingRights() & (kingside | queenside)) == 0 || kingSquare != Position.square(us == Position.WHITE ? 7 : 0, 4)
+				|| isSquareAttacked(position, kingSquare, us ^ 1)) {
+			return;
+		}
+		if(canCastle(position, us, kingSquare, true)) {
+			moves.add(Move.encode(kingSquare, kingSquare + 2, Move.CASTLING));
+		}
+		if(canCastle(position, us, kingSquare, false)) {
+			moves.add(Move.encode(kingSquare, kingSquare - 2, Move.CASTLING));
+		}
+	}
+
+	/**
+	 * Verifies whether the King, standing unchecked on its starting square,
+	 * can castle to one side: the right is kept, the rook is in its corner,
+	 * the squares between them are empty and the King crosses no attacked
+	 * square
+	 *
+	 * @param kingside	Whether to castle to the east rather than the west
+	 */
+	private static boolean canCastle(Position position, int us, int kingSquare, boolean kingside) {
+		int them = us ^ 1;
+		long occupied = position.getOccupied();
+		long rooks = position.getPieceBitboard(us, Position.ROOK);
+
+		//Check if King can castle to the east
+		if(kingside) {
+			return (position.getCastlingRights() & (us == Position.WHITE ? Position.WHITE_KINGSIDE : Position.BLACK_KINGSIDE)) != 0
+					&& (rooks & (1L << (kingSquare + 3))) != 0
+					&& (occupied & ((1L << (kingSquare + 1)) | (1L << (kingSquare + 2)))) == 0
+					&& !isSquareAttacked(position, kingSquare + 1, them)
+					&& !isSquareAttacked(position, kingSquare + 2, them);
+		}
+
+		//Check if King can castle to the west
+		return (position.getCastlingRights() & (us == Position.WHITE ? Position.WHITE_QUEENSIDE : Position.BLACK_QUEENSIDE)) != 0
+				&& (rooks & (1L << (kingSquare - 4))) != 0
+				&& (occupied & ((1L << (kingSquare - 1)) | (1L << (kingSquare - 2)) | (1L << (kingSquare - 3)))) == 0
+				&& !isSquareAttacked(position, kingSquare - 1, them)
+				&& !isSquareAttacked(position, kingSquare - 2, them);
+	}
+
+	/**
+	 * @param position	The position to inspect
+	 * @return			Whether the side to move has its king in check
+	 */
+	public static boolean isInCheck(Position position) {
+		int us = position.getSideToMove();
+		int kingSquare = position.getKingSquare(us);
+		return kingSquare != Position.NO_SQUARE && isSquareAttacked(position, kingSquare, us ^ 1);
+	}
+
+	/**
+	 * Verifies whether any piece of the given color attacks a square
+	 *
+	 * @param position	The position to inspect
+	 * @param square	The square to test
+	 * @param byColor	Color of the attacking side
+	 * @return			Whether the square is attacked
+	 */
+	public static boolean isSquareAttacked(Position position, int square, int byColor) {
+		return position.isSquareAttacked(square, byColor);
+	}
+}
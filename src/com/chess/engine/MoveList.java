@@ -0,0 +1,69 @@
+package com.chess.engine;
+
+import java.util.List;
+
+/**
+ * Fixed size buffer of encoded moves, allocated once and cleared before each
+ * use so that generating moves creates no objects. Searches keep one list for
+ * each ply.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public final class MoveList {
+
+	public static final int CAPACITY = 256; //More than the moves of any position, the most legal moves known being 218
+
+	private final int[] moves = new int[CAPACITY];
+	private int size;
+
+	public void add(int move) {
+		moves[size++] = move;
+	}
+
+	public int get(int index) {
+		return moves[index];
+	}
+
+	public void set(int index, int move) {
+		moves[index] = move;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * @param move	The encoded move to look for
+	 * @return		Index of the move, or -1 if the list doesn't hold it
+	 */
+	public int indexOf(int move) {
+		for(int i = 0; i < size; i++) {
+			if(moves[i] == move) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Decodes every move of the list into a Move object
+	 *
+	 * @param list	The list to add the decoded moves to
+	 * @return		The list passed
+	 */
+	public List<Move> addTo(List<Move> list) {
+		for(int i = 0; i < size; i++) {
+			list.add(Move.decode(moves[i]));
+		}
+		return list;
+	}
+}
@@ -0,0 +1,159 @@
+package com.chess.engine;
+
+/**
+ * Value of every piece on every square, material included, for the middlegame
+ * and for the endgame. A position's score is the sum of the values of its
+ * pieces, White's counting for and Black's against, so Position can update it
+ * incrementally as pieces move. The tables are written from White's side with
+ * rank 8 on the first line, the way squares are numbered, and are turned
+ * upside down for Black.
+ *
+ * The game phase counts the pieces besides pawns and kings, a queen weighing
+ * four, a rook two and a minor piece one, from MAX_PHASE at the start down to
+ * 0 in a pawn ending. Evaluations blend the middlegame and endgame scores by
+ * it.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public final class PieceSquareTables {
+
+	public static final int MAX_PHASE = 24;
+
+	private static final int[] MIDGAME_VALUES = {82, 337, 365, 477, 1025, 0};
+	private static final int[] ENDGAME_VALUES = {94, 281, 297, 512, 936, 0};
+	private static final int[] PHASE_WEIGHTS = {0, 1, 1, 2, 4, 0};
+
+	private static final int[][] MIDGAME_TABLES = {
+		{ //Pawn
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			 50,  50,  50,  50,  50,  50,  50,  50,
+			 10,  10,  20,  30,  30,  20,  10,  10,
+			  5,   5,  10,  25,  25,  10,   5,   5,
+			  0,   0,   0,  20,  20,   0,   0,   0,
+			  5,  -5, -10,   0,   0, -10,  -5,   5,
+			  5,  10,  10, -20, -20,  10,  10,   5,
+			  0,   0,   0,   0,   0,   0,   0,   0
+		},
+		{ //Knight
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20,   0,   0,   0,   0, -20, -40,
+			-30,   0,  10,  15,  15,  10,   0, -30,
+			-30,   5,  15,  20,  20,  15,   5, -30,
+			-30,   0,  15,  20,  20,  15,   0, -30,
+			-30,   5,  10,  15,  15,  10,   5, -30,
+			-40, -20,   0,   5,   5,   0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50
+		},
+		{ //Bishop
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-10,   0,   5,  10,  10,   5,   0, -10,
+			-10,   5,   5,  10,  10,   5,   5, -10,
+			-10,   0,  10,  10,  10,  10,   0, -10,
+			-10,  10,  10,  10,  10,  10,  10, -10,
+			-10,   5,   0,   0,   0,   0,   5, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20
+		},
+		{ //Rook
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			  5,  10,  10,  10,  10,  10,  10,   5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			  0,   0,   0,   5,   5,   0,   0,   0
+		},
+		{ //Queen
+			-20, -10, -10,  -5,  -5, -10, -10, -20,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-10,   0,   5,   5,   5,   5,   0, -10,
+			 -5,   0,   5,   5,   5,   5,   0,  -5,
+			  0,   0,   5,   5,   5,   5,   0,  -5,
+			-10,   5,   5,   5,   5,   5,   0, -10,
+			-10,   0,   5,   0,   0,   0,   0, -10,
+			-20, -10, -10,  -5,  -5, -10, -10, -20
+		},
+		{ //King, sheltered behind its pawns
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			 20,  20,   0,   0,   0,   0,  20,  20,
+			 20,  30,  10,   0,   0,  10,  30,  20
+		}
+	};
+
+	//Only pawns and the king play differently in the endgame
+	private static final int[][] ENDGAME_TABLES = {
+		{ //Pawn, worth more as it nears promotion
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			 80,  80,  80,  80,  80,  80,  80,  80,
+			 50,  50,  50,  50,  50,  50,  50,  50,
+			 30,  30,  30,  30,  30,  30,  30,  30,
+			 15,  15,  15,  15,  15,  15,  15,  15,
+			  5,   5,   5,   5,   5,   5,   5,   5,
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			  0,   0,   0,   0,   0,   0,   0,   0
+		},
+		MIDGAME_TABLES[Position.KNIGHT],
+		MIDGAME_TABLES[Position.BISHOP],
+		MIDGAME_TABLES[Position.ROOK],
+		MIDGAME_TABLES[Position.QUEEN],
+		{ //King, heading for the center
+			-50, -40, -30, -20, -20, -30, -40, -50,
+			-30, -20, -10,   0,   0, -10, -20, -30,
+			-30, -10,  20,  30,  30,  20, -10, -30,
+			-30, -10,  30,  40,  40,  30, -10, -30,
+			-30, -10,  30,  40,  40,  30, -10, -30,
+			-30, -10,  20,  30,  30,  20, -10, -30,
+			-30, -30,   0,   0,   0,   0, -30, -30,
+			-50, -30, -30, -30, -30, -30, -30, -50
+		}
+	};
+
+	//Signed values by piece code and square, Black's negated
+	private static final int[] MIDGAME_SCORES = new int[12 * 64];
+	private static final int[] ENDGAME_SCORES = new int[12 * 64];
+
+	static {
+		for(int type = Position.PAWN; type <= Position.KING; type++) {
+			for(int square = 0; square < 64; square++) {
+				int white = Position.pieceCode(Position.WHITE, type) * 64 + square;
+				int black = Position.pieceCode(Position.BLACK, type) * 64 + (square ^ 56);
+
+				MIDGAME_SCORES[white] = MIDGAME_VALUES[type] + MIDGAME_TABLES[type][square];
+				ENDGAME_SCORES[white] = ENDGAME_VALUES[type] + ENDGAME_TABLES[type][square];
+				MIDGAME_SCORES[black] = -MIDGAME_SCORES[white];
+				ENDGAME_SCORES[black] = -ENDGAME_SCORES[white];
+			}
+		}
+	}
+
+	private PieceSquareTables() {
+	}
+
+	/**
+	 * @return The middlegame value of a piece code on a square, negative for Black
+	 */
+	public static int midgameScore(int piece, int square) {
+		return MIDGAME_SCORES[piece * 64 + square];
+	}
+
+	/**
+	 * @return The endgame value of a piece code on a square, negative for Black
+	 */
+	public static int endgameScore(int piece, int square) {
+		return ENDGAME_SCORES[piece * 64 + square];
+	}
+
+	/**
+	 * @return How much a piece type counts towards the game phase
+	 */
+	public static int phaseWeight(int type) {
+		return PHASE_WEIGHTS[type];
+	}
+}
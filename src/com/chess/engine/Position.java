@@ -0,0 +1,608 @@
+package com.chess.engine;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard representation of a chess position. Every piece type of every color
+ * is stored as a 64-bit mask, together with occupancy masks for each color and
+ * for the whole board. Squares are numbered the same way the GUI addresses its
+ * grid: square = x * 8 + y, where x is the row (0 being Black's back rank) and
+ * y is the column (0 being the a-file).
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Position {
+
+	public static final int WHITE = 0;
+	public static final int BLACK = 1;
+
+	public static final int PAWN = 0;
+	public static final int KNIGHT = 1;
+	public static final int BISHOP = 2;
+	public static final int ROOK = 3;
+	public static final int QUEEN = 4;
+	public static final int KING = 5;
+
+	public static final int EMPTY = -1; //Piece code of an unoccupied square
+	public static final int NO_SQUARE = -1; //Square value used when no en passant capture is available
+
+	public static final int WHITE_KINGSIDE = 1;
+	public static final int WHITE_QUEENSIDE = 2;
+	public static final int BLACK_KINGSIDE = 4;
+	public static final int BLACK_QUEENSIDE = 8;
+
+	public static final long FILE_A = 0x0101010101010101L;
+	public static final long FILE_H = 0x8080808080808080L;
+	public static final long LIGHT_SQUARES = 0xAA55AA55AA55AA55L; //Squares whose row and column add up to an even number, a8 being light
+
+	//Castling rights kept after a piece leaves or lands on each square
+	private static final int[] CASTLING_MASKS = new int[64];
+
+	static {
+		for(int i = 0; i < 64; i++) {
+			CASTLING_MASKS[i] = WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE;
+		}
+		CASTLING_MASKS[square(0, 0)] &= ~BLACK_QUEENSIDE;
+		CASTLING_MASKS[square(0, 7)] &= ~BLACK_KINGSIDE;
+		CASTLING_MASKS[square(0, 4)] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+		CASTLING_MASKS[square(7, 0)] &= ~WHITE_QUEENSIDE;
+		CASTLING_MASKS[square(7, 7)] &= ~WHITE_KINGSIDE;
+		CASTLING_MASKS[square(7, 4)] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+	}
+
+	private long[] pieceBitboards = new long[12]; //One mask per color and piece type, indexed by piece code
+	private long[] colorOccupancy = new long[2]; //Squares occupied by each color
+	private long occupied; //Squares occupied by any piece
+	private int[] squares = new int[64]; //Piece code found on each square, used for constant time lookups
+
+	private int sideToMove = WHITE;
+	private int castlingRights;
+	private int enPassantSquare = NO_SQUARE;
+	private int halfmoveClock;
+	private int fullmoveNumber = 1;
+	private long hash; //Zobrist hash of the position, updated incrementally
+	private long pawnHash; //Zobrist hash of the pawns alone
+	private int midgameScore; //Sum of the middlegame piece-square values, from White's point of view
+	private int endgameScore; //Sum of the endgame piece-square values, from White's point of view
+	private int phase; //Game phase of the pieces on the board, see PieceSquareTables
+
+	private UndoRecord[] history = new UndoRecord[0]; //Records of the moves made, allocated once and reused as moves are taken back
+	private int historySize; //Number of moves that can be taken back
+
+	/**
+	 * Default constructor creating an empty board with White to move
+	 */
+	public Position() {
+		clear();
+	}
+
+	/**
+	 * Empties the board and resets the game state and the undo history, so a
+	 * position can be set up again without creating a new one
+	 */
+	public void clear() {
+		Arrays.fill(pieceBitboards, 0);
+		Arrays.fill(colorOccupancy, 0);
+		Arrays.fill(squares, EMPTY);
+		occupied = 0;
+		sideToMove = WHITE;
+		castlingRights = 0;
+		enPassantSquare = NO_SQUARE;
+		halfmoveClock = 0;
+		fullmoveNumber = 1;
+		hash = 0;
+		pawnHash = 0;
+		midgameScore = 0;
+		endgameScore = 0;
+		phase = 0;
+		historySize = 0;
+	}
+
+	/**
+	 * @return A new position set up with the standard starting arrangement
+	 */
+	public static Position startingPosition() {
+		Position position = new Position();
+		int[] backRank = {ROOK, KNIGHT, BISHOP, QUEEN, KING, BISHOP, KNIGHT, ROOK};
+
+		for(int i = 0; i < 8; i++) {
+			position.addPiece(BLACK, backRank[i], square(0, i));
+			position.addPiece(BLACK, PAWN, square(1, i));
+			position.addPiece(WHITE, PAWN, square(6, i));
+			position.addPiece(WHITE, backRank[i], square(7, i));
+		}
+		position.setCastlingRights(WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE);
+		return position;
+	}
+
+	/**
+	 * @return An independent copy of this position, without its undo history
+	 */
+	public Position copy() {
+		Position copy = new Position();
+		System.arraycopy(pieceBitboards, 0, copy.pieceBitboards, 0, 12);
+		System.arraycopy(colorOccupancy, 0, copy.colorOccupancy, 0, 2);
+		System.arraycopy(squares, 0, copy.squares, 0, 64);
+		copy.occupied = occupied;
+		copy.sideToMove = sideToMove;
+		copy.castlingRights = castlingRights;
+		copy.enPassantSquare = enPassantSquare;
+		copy.halfmoveClock = halfmoveClock;
+		copy.fullmoveNumber = fullmoveNumber;
+		copy.hash = hash;
+		copy.pawnHash = pawnHash;
+		copy.midgameScore = midgameScore;
+		copy.endgameScore = endgameScore;
+		copy.phase = phase;
+		return copy;
+	}
+
+	/**
+	 * Places a piece onto an empty square
+	 *
+	 * @param color		Color of the piece
+	 * @param type		Type of the piece
+	 * @param square	Square to place the piece on
+	 */
+	public void addPiece(int color, int type, int square) {
+		long bit = 1L << square;
+		int piece = pieceCode(color, type);
+
+		pieceBitboards[piece] |= bit;
+		colorOccupancy[color] |= bit;
+		occupied |= bit;
+		squares[square] = piece;
+		hash ^= Zobrist.pieceKey(piece, square);
+		midgameScore += PieceSquareTables.midgameScore(piece, square);
+		endgameScore += PieceSquareTables.endgameScore(piece, square);
+		phase += PieceSquareTables.phaseWeight(type);
+
+		if(type == PAWN) {
+			pawnHash ^= Zobrist.pieceKey(piece, square);
+		}
+	}
+
+	/**
+	 * Removes whichever piece is located on the square
+	 *
+	 * @param square	Square to clear
+	 * @return			Piece code of the removed piece, or EMPTY
+	 */
+	public int removePiece(int square) {
+		int piece = squares[square];
+
+		if(piece != EMPTY) {
+			long bit = 1L << square;
+			pieceBitboards[piece] &= ~bit;
+			colorOccupancy[colorOf(piece)] &= ~bit;
+			occupied &= ~bit;
+			squares[square] = EMPTY;
+			hash ^= Zobrist.pieceKey(piece, square);
+			midgameScore -= PieceSquareTables.midgameScore(piece, square);
+			endgameScore -= PieceSquareTables.endgameScore(piece, square);
+			phase -= PieceSquareTables.phaseWeight(typeOf(piece));
+
+			if(typeOf(piece) == PAWN) {
+				pawnHash ^= Zobrist.pieceKey(piece, square);
+			}
+		}
+		return piece;
+	}
+
+	/**
+	 * Moves a piece between two squares, the target square must be empty
+	 */
+	private void movePiece(int from, int to) {
+		int piece = squares[from];
+		long bits = (1L << from) | (1L << to);
+
+		pieceBitboards[piece] ^= bits;
+		colorOccupancy[colorOf(piece)] ^= bits;
+		occupied ^= bits;
+		squares[from] = EMPTY;
+		squares[to] = piece;
+		hash ^= Zobrist.pieceKey(piece, from) ^ Zobrist.pieceKey(piece, to);
+		midgameScore += PieceSquareTables.midgameScore(piece, to) - PieceSquareTables.midgameScore(piece, from);
+		endgameScore += PieceSquareTables.endgameScore(piece, to) - PieceSquareTables.endgameScore(piece, from);
+
+		if(typeOf(piece) == PAWN) {
+			pawnHash ^= Zobrist.pieceKey(piece, from) ^ Zobrist.pieceKey(piece, to);
+		}
+	}
+
+	/**
+	 * Plays a move on the board, recording what is needed to take it back with
+	 * unmakeMove. The move is assumed to be at least pseudo-legal for the side
+	 * to move.
+	 *
+	 * @param move	The move to play
+	 */
+	public void makeMove(Move move) {
+		makeMove(move.getCode());
+	}
+
+	/**
+	 * Plays an encoded move on the board, recording what is needed to take it
+	 * back with unmakeMove. The move is assumed to be at least pseudo-legal for
+	 * the side to move.
+	 *
+	 * @param move	The encoded move to play
+	 */
+	public void makeMove(int move) {
+		int from = Move.fromOf(move);
+		int to = Move.toOf(move);
+		int flag = Move.flagOf(move);
+		int color = sideToMove;
+		int piece = squares[from];
+
+		if(historySize == history.length) {
+			growHistory();
+		}
+		UndoRecord undo = history[historySize++];
+		undo.move = move;
+		undo.castlingRights = castlingRights;
+		undo.enPassantSquare = enPassantSquare;
+		undo.halfmoveClock = halfmoveClock;
+		undo.fullmoveNumber = fullmoveNumber;
+		undo.hash = hash;
+
+		//Remove the captured piece, which is behind the target square for En Passant
+		if(flag == Move.EN_PASSANT) {
+			undo.capturedPiece = removePiece(color == WHITE ? to + 8 : to - 8);
+		}
+		else {
+			undo.capturedPiece = removePiece(to);
+		}
+		halfmoveClock++;
+
+		if(undo.capturedPiece != EMPTY || typeOf(piece) == PAWN) {
+			halfmoveClock = 0;
+		}
+		movePiece(from, to);
+
+		if(flag == Move.PROMOTION) {
+			removePiece(to);
+			addPiece(color, Move.promotionOf(move), to);
+		}
+		//Relocate the rook to the other side of the king
+		else if(flag == Move.CASTLING) {
+			if(to > from) {
+				movePiece(to + 1, to - 1);
+			}
+			else {
+				movePiece(to - 2, to + 1);
+			}
+		}
+		setCastlingRights(castlingRights & CASTLING_MASKS[from] & CASTLING_MASKS[to]);
+
+		//Only record an en passant square when an enemy pawn is next to the pawn
+		int newEnPassantSquare = NO_SQUARE;
+
+		if(flag == Move.DOUBLE_PAWN_PUSH) {
+			long neighbours = (((1L << to) << 1) & ~FILE_A) | (((1L << to) >>> 1) & ~FILE_H);
+
+			if((neighbours & pieceBitboards[pieceCode(color ^ 1, PAWN)]) != 0) {
+				newEnPassantSquare = (from + to) / 2;
+			}
+		}
+		setEnPassantSquare(newEnPassantSquare);
+
+		if(color == BLACK) {
+			fullmoveNumber++;
+		}
+		sideToMove = color ^ 1;
+		hash ^= Zobrist.sideKey();
+	}
+
+	/**
+	 * Takes back the last move made with makeMove, restoring the position
+	 * exactly as it was before the move
+	 */
+	public void unmakeMove() {
+		UndoRecord undo = history[--historySize];
+		int move = undo.move;
+		int from = Move.fromOf(move);
+		int to = Move.toOf(move);
+		int flag = Move.flagOf(move);
+
+		sideToMove ^= 1;
+
+		if(flag == Move.PROMOTION) {
+			removePiece(to);
+			addPiece(sideToMove, PAWN, to);
+		}
+		//Return the rook to its corner
+		else if(flag == Move.CASTLING) {
+			if(to > from) {
+				movePiece(to - 1, to + 1);
+			}
+			else {
+				movePiece(to + 1, to - 2);
+			}
+		}
+		movePiece(to, from);
+
+		if(undo.capturedPiece != EMPTY) {
+			int capturedSquare = to;
+
+			if(flag == Move.EN_PASSANT) {
+				capturedSquare = sideToMove == WHITE ? to + 8 : to - 8;
+			}
+			addPiece(colorOf(undo.capturedPiece), typeOf(undo.capturedPiece), capturedSquare);
+		}
+		castlingRights = undo.castlingRights;
+		enPassantSquare = undo.enPassantSquare;
+		halfmoveClock = undo.halfmoveClock;
+		fullmoveNumber = undo.fullmoveNumber;
+		hash = undo.hash;
+	}
+
+	/**
+	 * @return The number of moves made that can still be taken back
+	 */
+	public int getHistorySize() {
+		return historySize;
+	}
+
+	/**
+	 * @param plies	Number of moves to look back, from 1 up to the history size
+	 * @return		The hash of the position that many moves before the current one
+	 */
+	public long getHashBefore(int plies) {
+		return history[historySize - plies].hash;
+	}
+
+	/**
+	 * Counts the earlier occurrences of the current position. Only the
+	 * positions reached since the last capture or pawn move are compared,
+	 * since none before it can come back, and only those with the same side to
+	 * move, every other one.
+	 *
+	 * @return The number of times the position occurred before, as far back as the undo history goes
+	 */
+	public int countRepetitions() {
+		int repetitions = 0;
+		int oldest = Math.max(0, historySize - halfmoveClock);
+
+		for(int i = historySize - 2; i >= oldest; i -= 2) {
+			if(history[i].hash == hash) {
+				repetitions++;
+			}
+		}
+		return repetitions;
+	}
+
+	/**
+	 * Verifies whether neither side has the material left to checkmate: bare
+	 * kings, a single minor piece, or bishops that all stand on squares of one
+	 * color
+	 *
+	 * @return Whether no sequence of moves can lead to checkmate
+	 */
+	public boolean hasInsufficientMaterial() {
+		long pawnsAndMajors = 0;
+		long knights = 0;
+		long bishops = 0;
+
+		for(int color = WHITE; color <= BLACK; color++) {
+			pawnsAndMajors |= getPieceBitboard(color, PAWN) | getPieceBitboard(color, ROOK) | getPieceBitboard(color, QUEEN);
+			knights |= getPieceBitboard(color, KNIGHT);
+			bishops |= getPieceBitboard(color, BISHOP);
+		}
+		if(pawnsAndMajors != 0) {
+			return false;
+		}
+		if(Long.bitCount(knights | bishops) <= 1) {
+			return true;
+		}
+		return knights == 0 && ((bishops & LIGHT_SQUARES) == 0 || (bishops & ~LIGHT_SQUARES) == 0);
+	}
+
+	/**
+	 * Doubles the capacity of the undo history, reusing the existing records
+	 */
+	private void growHistory() {
+		history = Arrays.copyOf(history, Math.max(64, history.length * 2));
+
+		for(int i = historySize; i < history.length; i++) {
+			history[i] = new UndoRecord();
+		}
+	}
+
+	/**
+	 * @param square	Square to look up
+	 * @return			Piece code on the square, or EMPTY
+	 */
+	public int getPiece(int square) {
+		return squares[square];
+	}
+
+	/**
+	 * @return The mask of every square holding the given piece
+	 */
+	public long getPieceBitboard(int color, int type) {
+		return pieceBitboards[pieceCode(color, type)];
+	}
+
+	/**
+	 * @return The mask of every square holding a piece of the given color
+	 */
+	public long getOccupancy(int color) {
+		return colorOccupancy[color];
+	}
+
+	/**
+	 * @return The mask of every occupied square
+	 */
+	public long getOccupied() {
+		return occupied;
+	}
+
+	/**
+	 * @return The square of the given color's king, or NO_SQUARE if it has no king
+	 */
+	public int getKingSquare(int color) {
+		long king = pieceBitboards[pieceCode(color, KING)];
+		return king == 0 ? NO_SQUARE : Long.numberOfTrailingZeros(king);
+	}
+
+	/**
+	 * Verifies whether any piece of the given color attacks a square, looking
+	 * outwards from the square with the attack tables of every piece type
+	 *
+	 * @param square	The square to test
+	 * @param byColor	Color of the attacking side
+	 * @return			Whether the square is attacked
+	 */
+	public boolean isSquareAttacked(int square, int byColor) {
+		int base = byColor * 6;
+		long queens = pieceBitboards[base + QUEEN];
+
+		return (Attacks.pawnAttacks(byColor ^ 1, square) & pieceBitboards[base + PAWN]) != 0
+				|| (Attacks.knightAttacks(square) & pieceBitboards[base + KNIGHT]) != 0
+				|| (Attacks.kingAttacks(square) & pieceBitboards[base + KING]) != 0
+				|| (Attacks.bishopAttacks(square, occupied) & (pieceBitboards[base + BISHOP] | queens)) != 0
+				|| (Attacks.rookAttacks(square, occupied) & (pieceBitboards[base + ROOK] | queens)) != 0;
+	}
+
+	/**
+	 * Finds every piece of the given color attacking a square, with sliding
+	 * pieces blocked by the passed occupancy rather than the board's
+	 *
+	 * @param square		The square to test
+	 * @param byColor		Color of the attacking side
+	 * @param occupied		Squares that block sliding pieces
+	 * @return				The squares of the attacking pieces
+	 */
+	public long getAttackers(int square, int byColor, long occupied) {
+		int base = byColor * 6;
+		long queens = pieceBitboards[base + QUEEN];
+
+		return (Attacks.pawnAttacks(byColor ^ 1, square) & pieceBitboards[base + PAWN])
+				| (Attacks.knightAttacks(square) & pieceBitboards[base + KNIGHT])
+				| (Attacks.kingAttacks(square) & pieceBitboards[base + KING])
+				| (Attacks.bishopAttacks(square, occupied) & (pieceBitboards[base + BISHOP] | queens))
+				| (Attacks.rookAttacks(square, occupied) & (pieceBitboards[base + ROOK] | queens));
+	}
+
+	public int getSideToMove() {
+		return sideToMove;
+	}
+
+	public void setSideToMove(int sideToMove) {
+		if(this.sideToMove != sideToMove) {
+			hash ^= Zobrist.sideKey();
+		}
+		this.sideToMove = sideToMove;
+	}
+
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	public void setCastlingRights(int castlingRights) {
+		hash ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.castlingKey(castlingRights);
+		this.castlingRights = castlingRights;
+	}
+
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	public void setEnPassantSquare(int enPassantSquare) {
+		hash ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.enPassantKey(enPassantSquare);
+		this.enPassantSquare = enPassantSquare;
+	}
+
+	/**
+	 * @return The Zobrist hash of the pawns alone, shared by every position with the same pawns
+	 */
+	public long getPawnHash() {
+		return pawnHash;
+	}
+
+	/**
+	 * @return The sum of the middlegame piece-square values, from White's point of view
+	 */
+	public int getMidgameScore() {
+		return midgameScore;
+	}
+
+	/**
+	 * @return The sum of the endgame piece-square values, from White's point of view
+	 */
+	public int getEndgameScore() {
+		return endgameScore;
+	}
+
+	/**
+	 * @return The game phase of the pieces on the board, from PieceSquareTables.MAX_PHASE down to 0
+	 */
+	public int getPhase() {
+		return phase;
+	}
+
+	/**
+	 * @return The Zobrist hash of the position
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	public void setHalfmoveClock(int halfmoveClock) {
+		this.halfmoveClock = halfmoveClock;
+	}
+
+	public int getFullmoveNumber() {
+		return fullmoveNumber;
+	}
+
+	public void setFullmoveNumber(int fullmoveNumber) {
+		this.fullmoveNumber = fullmoveNumber;
+	}
+
+	/**
+	 * @return The square index for grid coordinates
+	 */
+	public static int square(int x, int y) {
+		return x * 8 + y;
+	}
+
+	/**
+	 * @return The grid x-coordinate (row) of a square
+	 */
+	public static int row(int square) {
+		return square >> 3;
+	}
+
+	/**
+	 * @return The grid y-coordinate (column) of a square
+	 */
+	public static int column(int square) {
+		return square & 7;
+	}
+
+	/**
+	 * @return The algebraic name of a square, such as "e4"
+	 */
+	public static String squareName(int square) {
+		return "" + (char)('a' + column(square)) + (char)('8' - row(square));
+	}
+
+	public static int pieceCode(int color, int type) {
+		return color * 6 + type;
+	}
+
+	public static int colorOf(int piece) {
+		return piece / 6;
+	}
+
+	public static int typeOf(int piece) {
+		return piece % 6;
+	}
+}
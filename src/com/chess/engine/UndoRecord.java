@@ -0,0 +1,47 @@
+package com.chess.engine;
+
+/**
+ * Holds the state of a Position that can't be recovered from a move alone,
+ * allowing the move to be taken back after it has been made
+ *
+ * Date: 10/17/2026
+ *
+ */
+public final class UndoRecord {
+
+	int move = Move.NONE; //The encoded move that was made
+	int capturedPiece = Position.EMPTY; //Piece code of the piece removed from the target square
+	int castlingRights; //Castling rights before the move
+	int enPassantSquare = Position.NO_SQUARE; //En Passant square before the move
+	int halfmoveClock; //Halfmove clock before the move
+	int fullmoveNumber; //Fullmove number before the move
+	long hash; //Zobrist hash before the move
+
+	public int getMove() {
+		return move;
+	}
+
+	public int getCapturedPiece() {
+		return capturedPiece;
+	}
+
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	public int getFullmoveNumber() {
+		return fullmoveNumber;
+	}
+
+	public long getHash() {
+		return hash;
+	}
+}
@@ -0,0 +1,109 @@
+package com.chess.engine;
+
+/**
+ * Random keys used to hash positions. A position's hash is the exclusive or of
+ * the keys of every piece on its square, the side to move, the castling rights
+ * and the file of the En Passant square, so Position can update it
+ * incrementally as pieces move. The keys come from a fixed seed and are the
+ * same on every run, which keeps stored hashes valid between runs.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public final class Zobrist {
+
+	private static final long[] PIECE_KEYS = new long[12 * 64];
+	private static final long[] CASTLING_KEYS = new long[16];
+	private static final long[] EN_PASSANT_KEYS = new long[8];
+	private static final long SIDE_KEY;
+
+	private static long randomState = 0x9E3779B97F4A7C15L; //Fixed seed of the key generator
+
+	static {
+		for(int i = 0; i < PIECE_KEYS.length; i++) {
+			PIECE_KEYS[i] = nextRandom();
+		}
+
+		//Each castling right toggles its own key, so any combination is their exclusive or
+		long[] rightKeys = new long[4];
+
+		for(int i = 0; i < 4; i++) {
+			rightKeys[i] = nextRandom();
+		}
+		for(int rights = 0; rights < 16; rights++) {
+			for(int i = 0; i < 4; i++) {
+				if((rights & (1 << i)) != 0) {
+					CASTLING_KEYS[rights] ^= rightKeys[i];
+				}
+			}
+		}
+		for(int i = 0; i < 8; i++) {
+			EN_PASSANT_KEYS[i] = nextRandom();
+		}
+		SIDE_KEY = nextRandom();
+	}
+
+	private Zobrist() {
+	}
+
+	/**
+	 * @return The key of a piece code standing on a square
+	 */
+	public static long pieceKey(int piece, int square) {
+		return PIECE_KEYS[piece * 64 + square];
+	}
+
+	/**
+	 * @return The key of a combination of castling rights
+	 */
+	public static long castlingKey(int castlingRights) {
+		return CASTLING_KEYS[castlingRights];
+	}
+
+	/**
+	 * @return The key of an En Passant square's file, or 0 when there is no En Passant square
+	 */
+	public static long enPassantKey(int enPassantSquare) {
+		return enPassantSquare == Position.NO_SQUARE ? 0 : EN_PASSANT_KEYS[Position.column(enPassantSquare)];
+	}
+
+	/**
+	 * @return The key toggled when Black is to move
+	 */
+	public static long sideKey() {
+		return SIDE_KEY;
+	}
+
+	/**
+	 * Computes a position's hash from scratch, which the incrementally updated
+	 * Position.getHash() always equals
+	 *
+	 * @param position	The position to hash
+	 * @return			The position's hash
+	 */
+	public static long computeHash(Position position) {
+		long hash = 0;
+
+		for(int square = 0; square < 64; square++) {
+			int piece = position.getPiece(square);
+
+			if(piece != Position.EMPTY) {
+				hash ^= pieceKey(piece, square);
+			}
+		}
+		if(position.getSideToMove() == Position.BLACK) {
+			hash ^= SIDE_KEY;
+		}
+		return hash ^ castlingKey(position.getCastlingRights()) ^ enPassantKey(position.getEnPassantSquare());
+	}
+
+	/**
+	 * Steps the xorshift64* key generator
+	 */
+	private static long nextRandom() {
+		randomState ^= randomState >>> 12;
+		randomState ^= randomState << 25;
+		randomState ^= randomState >>> 27;
+		return randomState * 0x2545F4914F6CDD1DL;
+	}
+}
@@ -0,0 +1,11 @@
+package com.chess.enums;
+
+public enum GameStatus {
+	ONGOING,
+	CHECK,
+	CHECKMATE,
+	STALEMATE,
+	DRAW_BY_REPETITION,
+	DRAW_BY_FIFTY_MOVE_RULE,
+	DRAW_BY_INSUFFICIENT_MATERIAL
+}
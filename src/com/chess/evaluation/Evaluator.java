@@ -0,0 +1,243 @@
+package com.chess.evaluation;
+
+import com.chess.engine.Attacks;
+import com.chess.engine.PieceSquareTables;
+import com.chess.engine.Position;
+
+/**
+ * Static evaluation of a position in centipawns. Material and piece-square
+ * values are kept up to date by Position as moves are made and taken back,
+ * so only the terms depending on how pieces stand towards each other are
+ * computed here: pawn structure, king safety and mobility. Every term has a
+ * middlegame and an endgame weight, blended by the game phase. Pawn structure
+ * scores are cached in a pawn hash table. An Evaluator keeps scratch state
+ * and must only be used by one thread at a time.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Evaluator {
+
+	//Pawn structure, by pawn
+	private static final int DOUBLED_MIDGAME = -10;
+	private static final int DOUBLED_ENDGAME = -20;
+	private static final int ISOLATED_MIDGAME = -10;
+	private static final int ISOLATED_ENDGAME = -15;
+	private static final int[] PASSED_MIDGAME = {0, 5, 10, 20, 35, 60}; //By ranks advanced from the pawn's starting rank
+	private static final int[] PASSED_ENDGAME = {0, 10, 20, 35, 60, 100};
+
+	//King safety, middlegame only
+	private static final int SHIELD_BONUS = 10; //Pawn right in front of the King
+	private static final int FAR_SHIELD_BONUS = 5; //Pawn two squares in front of the King
+	private static final int OPEN_FILE_PENALTY = -15; //File next to the King without a pawn of its own
+	private static final int[] ATTACK_WEIGHTS = {0, 2, 2, 3, 5, 0}; //By type of the piece attacking the King's surroundings
+	private static final int MAX_KING_DANGER = 500;
+
+	//Mobility, by type and safe square reached beyond the usual number
+	private static final int[] MOBILITY_MIDGAME = {0, 4, 5, 2, 1, 0};
+	private static final int[] MOBILITY_ENDGAME = {0, 4, 5, 4, 2, 0};
+	private static final int[] MOBILITY_CENTER = {0, 4, 6, 7, 13, 0};
+
+	private static final long[] FILES = new long[8];
+	private static final long[] ADJACENT_FILES = new long[8];
+	private static final long[][] FRONT_SPANS = new long[2][64]; //Squares in front of a square on its own and adjacent files, by color moving forward
+
+	static {
+		for(int column = 0; column < 8; column++) {
+			FILES[column] = Position.FILE_A << column;
+		}
+		for(int column = 0; column < 8; column++) {
+			ADJACENT_FILES[column] = (column > 0 ? FILES[column - 1] : 0) | (column < 7 ? FILES[column + 1] : 0);
+		}
+		for(int square = 0; square < 64; square++) {
+			int row = Position.row(square);
+			long files = FILES[Position.column(square)] | ADJACENT_FILES[Position.column(square)];
+
+			//White pawns move towards row 0 and Black pawns towards row 7
+			for(int other = 0; other < 8; other++) {
+				long rank = 0xFFL << (other * 8);
+
+				if(other < row) {
+					FRONT_SPANS[Position.WHITE][square] |= files & rank;
+				}
+				else if(other > row) {
+					FRONT_SPANS[Position.BLACK][square] |= files & rank;
+				}
+			}
+		}
+	}
+
+	private final PawnHashTable pawnHashTable;
+
+	private int midgame; //Middlegame score of the position being evaluated, from White's point of view
+	private int endgame; //Endgame score of the position being evaluated, from White's point of view
+
+	/**
+	 * Constructor for Evaluator objects with a pawn hash table of the default size
+	 */
+	public Evaluator() {
+		this(new PawnHashTable(PawnHashTable.DEFAULT_KILOBYTES));
+	}
+
+	/**
+	 * Constructor for Evaluator objects
+	 *
+	 * @param pawnHashTable	Table to cache pawn structure scores in, used by this Evaluator alone
+	 */
+	public Evaluator(PawnHashTable pawnHashTable) {
+		this.pawnHashTable = pawnHashTable;
+	}
+
+	public PawnHashTable getPawnHashTable() {
+		return pawnHashTable;
+	}
+
+	/**
+	 * Evaluates a position
+	 *
+	 * @param position	The position to evaluate
+	 * @return			The score from the side to move's point of view
+	 */
+	public int evaluate(Position position) {
+		midgame = position.getMidgameScore();
+		endgame = position.getEndgameScore();
+
+		evaluatePawns(position);
+		evaluatePieces(position, Position.WHITE);
+		evaluatePieces(position, Position.BLACK);
+
+		int phase = Math.min(position.getPhase(), PieceSquareTables.MAX_PHASE);
+		int score = (midgame * phase + endgame * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+		return position.getSideToMove() == Position.WHITE ? score : -score;
+	}
+
+	/**
+	 * Adds the pawn structure score, from the pawn hash table when the pawns
+	 * were evaluated before
+	 */
+	private void evaluatePawns(Position position) {
+		long pawnHash = position.getPawnHash();
+		int slot = pawnHashTable.probe(pawnHash);
+
+		if(slot != PawnHashTable.NO_ENTRY) {
+			midgame += pawnHashTable.getMidgameScore(slot);
+			endgame += pawnHashTable.getEndgameScore(slot);
+			return;
+		}
+		int midgameBefore = midgame;
+		int endgameBefore = endgame;
+
+		addPawnStructure(position);
+		pawnHashTable.store(pawnHash, midgame - midgameBefore, endgame - endgameBefore);
+	}
+
+	/**
+	 * Adds the doubled, isolated and passed pawns of both sides
+	 */
+	private void addPawnStructure(Position position) {
+		for(int color = Position.WHITE; color <= Position.BLACK; color++) {
+			int sign = color == Position.WHITE ? 1 : -1;
+			long pawns = position.getPieceBitboard(color, Position.PAWN);
+			long enemyPawns = position.getPieceBitboard(color ^ 1, Position.PAWN);
+
+			for(int column = 0; column < 8; column++) {
+				int count = Long.bitCount(pawns & FILES[column]);
+
+				if(count > 1) {
+					midgame += sign * DOUBLED_MIDGAME * (count - 1);
+					endgame += sign * DOUBLED_ENDGAME * (count - 1);
+				}
+			}
+			for(long remaining = pawns; remaining != 0; remaining &= remaining - 1) {
+				int square = Long.numberOfTrailingZeros(remaining);
+
+				if((pawns & ADJACENT_FILES[Position.column(square)]) == 0) {
+					midgame += sign * ISOLATED_MIDGAME;
+					endgame += sign * ISOLATED_ENDGAME;
+				}
+				if((enemyPawns & FRONT_SPANS[color][square]) == 0) {
+					int advance = color == Position.WHITE ? 6 - Position.row(square) : Position.row(square) - 1;
+					midgame += sign * PASSED_MIDGAME[advance];
+					endgame += sign * PASSED_ENDGAME[advance];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the mobility of a side's pieces, their attacks on the enemy King's
+	 * surroundings, and the pawn shield of its own King
+	 */
+	private void evaluatePieces(Position position, int color) {
+		int sign = color == Position.WHITE ? 1 : -1;
+		long occupied = position.getOccupied();
+		long own = position.getOccupancy(color);
+		long enemyPawns = position.getPieceBitboard(color ^ 1, Position.PAWN);
+		long enemyPawnAttacks = 0;
+
+		for(long pawns = enemyPawns; pawns != 0; pawns &= pawns - 1) {
+			enemyPawnAttacks |= Attacks.pawnAttacks(color ^ 1, Long.numberOfTrailingZeros(pawns));
+		}
+		int enemyKing = position.getKingSquare(color ^ 1);
+		long kingZone = enemyKing == Position.NO_SQUARE ? 0 : Attacks.kingAttacks(enemyKing) | (1L << enemyKing);
+		int attackUnits = 0;
+		int attackers = 0;
+
+		for(int type = Position.KNIGHT; type <= Position.QUEEN; type++) {
+			for(long pieces = position.getPieceBitboard(color, type); pieces != 0; pieces &= pieces - 1) {
+				int square = Long.numberOfTrailingZeros(pieces);
+				long attacks;
+
+				switch(type) {
+				case Position.KNIGHT:
+					attacks = Attacks.knightAttacks(square);
+					break;
+				case Position.BISHOP:
+					attacks = Attacks.bishopAttacks(square, occupied);
+					break;
+				case Position.ROOK:
+					attacks = Attacks.rookAttacks(square, occupied);
+					break;
+				default:
+					attacks = Attacks.queenAttacks(square, occupied);
+				}
+				int mobility = Long.bitCount(attacks & ~own & ~enemyPawnAttacks) - MOBILITY_CENTER[type];
+				midgame += sign * MOBILITY_MIDGAME[type] * mobility;
+				endgame += sign * MOBILITY_ENDGAME[type] * mobility;
+
+				if((attacks & kingZone) != 0) {
+					attackUnits += ATTACK_WEIGHTS[type] * Long.bitCount(attacks & kingZone);
+					attackers++;
+				}
+			}
+		}
+
+		//A lone attacker can rarely break through, and the danger grows faster than the attack
+		if(attackers > 1) {
+			midgame += sign * Math.min(attackUnits * attackUnits / 2, MAX_KING_DANGER);
+		}
+		int king = position.getKingSquare(color);
+
+		if(king != Position.NO_SQUARE) {
+			long pawns = position.getPieceBitboard(color, Position.PAWN);
+			long shield = pawns & FRONT_SPANS[color][king];
+			int column = Position.column(king);
+
+			for(long remaining = shield; remaining != 0; remaining &= remaining - 1) {
+				int distance = Math.abs(Position.row(Long.numberOfTrailingZeros(remaining)) - Position.row(king));
+
+				if(distance == 1) {
+					midgame += sign * SHIELD_BONUS;
+				}
+				else if(distance == 2) {
+					midgame += sign * FAR_SHIELD_BONUS;
+				}
+			}
+			for(int file = Math.max(0, column - 1); file <= Math.min(7, column + 1); file++) {
+				if((pawns & FILES[file]) == 0) {
+					midgame += sign * OPEN_FILE_PENALTY;
+				}
+			}
+		}
+	}
+}
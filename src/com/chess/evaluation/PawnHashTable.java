@@ -0,0 +1,117 @@
+package com.chess.evaluation;
+
+/**
+ * Fixed-size cache of pawn structure scores indexed by the hash of the pawns
+ * alone. Pawns move far less often than other pieces, so most positions a
+ * search evaluates share their pawns with one evaluated before. Entries live
+ * in primitive arrays a power of two in length, and the table counts its hits
+ * and misses. A PawnHashTable isn't thread-safe, each Evaluator keeping its
+ * own.
+ *
+ * An empty entry has key 0 and scores 0, which is also the right entry for a
+ * position without pawns, whose pawn hash is 0.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PawnHashTable {
+
+	public static final int DEFAULT_KILOBYTES = 1024;
+	public static final int NO_ENTRY = -1;
+
+	private static final int ENTRY_BYTES = 16;
+
+	private final long[] keys; //Pawn hash of every entry
+	private final int[] midgameScores; //Pawn structure scores from White's point of view
+	private final int[] endgameScores;
+	private final int mask;
+
+	private long hits;
+	private long misses;
+
+	/**
+	 * Constructor for PawnHashTable objects
+	 *
+	 * @param kilobytes	Memory to use, rounded down to a power of two number of entries
+	 */
+	public PawnHashTable(int kilobytes) {
+		int entries = Integer.highestOneBit(Math.max(1, (int) Math.min((long) kilobytes * 1024 / ENTRY_BYTES, 1 << 26)));
+
+		this.keys = new long[entries];
+		this.midgameScores = new int[entries];
+		this.endgameScores = new int[entries];
+		this.mask = entries - 1;
+	}
+
+	/**
+	 * Looks up the entry stored for a pawn structure
+	 *
+	 * @param pawnHash	Hash of the pawns
+	 * @return			The slot of the entry, or NO_ENTRY
+	 */
+	public int probe(long pawnHash) {
+		int slot = (int) pawnHash & mask;
+
+		if(keys[slot] != pawnHash) {
+			misses++;
+			return NO_ENTRY;
+		}
+		hits++;
+		return slot;
+	}
+
+	/**
+	 * @param slot	A slot returned by probe
+	 * @return		The middlegame score stored in it
+	 */
+	public int getMidgameScore(int slot) {
+		return midgameScores[slot];
+	}
+
+	/**
+	 * @param slot	A slot returned by probe
+	 * @return		The endgame score stored in it
+	 */
+	public int getEndgameScore(int slot) {
+		return endgameScores[slot];
+	}
+
+	/**
+	 * Stores the scores of a pawn structure, replacing the entry in its slot
+	 *
+	 * @param pawnHash		Hash of the pawns
+	 * @param midgameScore	Middlegame score from White's point of view
+	 * @param endgameScore	Endgame score from White's point of view
+	 */
+	public void store(long pawnHash, int midgameScore, int endgameScore) {
+		int slot = (int) pawnHash & mask;
+
+		keys[slot] = pawnHash;
+		midgameScores[slot] = midgameScore;
+		endgameScores[slot] = endgameScore;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return The fraction of probes that found their entry, 0 before any probe
+	 */
+	public double getHitRate() {
+		long probes = hits + misses;
+		return probes == 0 ? 0 : (double) hits / probes;
+	}
+
+	/**
+	 * Sets the hit and miss counters back to 0, keeping the entries
+	 */
+	public void resetStatistics() {
+		hits = 0;
+		misses = 0;
+	}
+}
@@ -0,0 +1,301 @@
+package com.chess.notation;
+
+import com.chess.engine.Attacks;
+import com.chess.engine.BoardAdapter;
+import com.chess.engine.Position;
+import com.chess.enums.PieceColor;
+import com.chess.pieces.ChessPiece;
+
+/**
+ * Reads and writes positions in Forsyth-Edwards Notation. The reader walks
+ * the record one character at a time and can set up an existing position,
+ * and the writer appends to a caller's StringBuilder, so loading or saving
+ * many positions creates no objects per record.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Fen {
+
+	public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String PIECE_SYMBOLS = "PNBRQKpnbrqk"; //Symbol of every piece code
+
+	/**
+	 * Builds a position from a FEN record
+	 *
+	 * @param fen	The FEN record to read
+	 * @return		The position described by the record
+	 */
+	public static Position parse(CharSequence fen) {
+		return parse(fen, new Position());
+	}
+
+	/**
+	 * Sets up a position from a FEN record, replacing whatever it held. The
+	 * halfmove clock and fullmove number fields are optional. An En Passant
+	 * square is only kept when a pawn can capture onto it, the same way
+	 * Position.makeMove records it, so a position hashes the same whether it
+	 * was read or played. A record with a pawn on a back rank, or with an En
+	 * Passant square no double pawn push of the side that just moved could
+	 * have left, is rejected.
+	 *
+	 * @param fen		The FEN record to read
+	 * @param position	The position to set up
+	 * @return			The position passed
+	 */
+	public static Position parse(CharSequence fen, Position position) {
+		position.clear();
+
+		//Piece placement, from Black's back rank down
+		int start = skipSpaces(fen, 0);
+		int end = endOfField(fen, start);
+		int x = 0;
+		int y = 0;
+
+		for(int i = start; i < end; i++) {
+			char symbol = fen.charAt(i);
+
+			if(symbol == '/') {
+				if(y != 8) {
+					throw invalid("piece placement", fen);
+				}
+				x++;
+				y = 0;
+			}
+			else if(symbol >= '1' && symbol <= '8') {
+				y += symbol - '0';
+			}
+			else {
+				int piece = PIECE_SYMBOLS.indexOf(symbol);
+
+				//Pawns never stand on either back rank
+				if(piece < 0 || x > 7 || y > 7 || (Position.typeOf(piece) == Position.PAWN && (x == 0 || x == 7))) {
+					throw invalid("piece placement", fen);
+				}
+				position.addPiece(Position.colorOf(piece), Position.typeOf(piece), Position.square(x, y));
+				y++;
+			}
+		}
+		if(x != 7 || y != 8) {
+			throw invalid("piece placement", fen);
+		}
+
+		//Side to move
+		start = requireField(fen, end);
+		end = endOfField(fen, start);
+
+		if(end - start != 1 || (fen.charAt(start) != 'w' && fen.charAt(start) != 'b')) {
+			throw invalid("side to move", fen);
+		}
+		int sideToMove = fen.charAt(start) == 'b' ? Position.BLACK : Position.WHITE;
+		position.setSideToMove(sideToMove);
+
+		//Castling rights
+		start = requireField(fen, end);
+		end = endOfField(fen, start);
+		int rights = 0;
+
+		if(end - start != 1 || fen.charAt(start) != '-') {
+			for(int i = start; i < end; i++) {
+				switch(fen.charAt(i)) {
+				case 'K':
+					rights |= Position.WHITE_KINGSIDE;
+					break;
+				case 'Q':
+					rights |= Position.WHITE_QUEENSIDE;
+					break;
+				case 'k':
+					rights |= Position.BLACK_KINGSIDE;
+					break;
+				case 'q':
+					rights |= Position.BLACK_QUEENSIDE;
+					break;
+				default:
+					throw invalid("castling rights", fen);
+				}
+			}
+		}
+		position.setCastlingRights(rights);
+
+		//En Passant square
+		start = requireField(fen, end);
+		end = endOfField(fen, start);
+
+		if(end - start != 1 || fen.charAt(start) != '-') {
+			char file = fen.charAt(start);
+			char rank = end - start == 2 ? fen.charAt(start + 1) : 0;
+
+			if(file < 'a' || file > 'h' || rank != (sideToMove == Position.WHITE ? '6' : '3')) {
+				throw invalid("En Passant square", fen);
+			}
+			int enPassantSquare = Position.square('8' - rank, file - 'a');
+			int forward = sideToMove == Position.WHITE ? 8 : -8; //Towards the pawn that just moved two squares
+
+			//The square passed over and the one the pawn left are empty, and the pawn stands past them
+			if(position.getPiece(enPassantSquare) != Position.EMPTY || position.getPiece(enPassantSquare - forward) != Position.EMPTY
+					|| position.getPiece(enPassantSquare + forward) != Position.pieceCode(sideToMove ^ 1, Position.PAWN)) {
+				throw invalid("En Passant square", fen);
+			}
+
+			if((Attacks.pawnAttacks(sideToMove ^ 1, enPassantSquare) & position.getPieceBitboard(sideToMove, Position.PAWN)) != 0) {
+				position.setEnPassantSquare(enPassantSquare);
+			}
+		}
+
+		//Halfmove clock and fullmove number
+		start = skipSpaces(fen, end);
+
+		if(start < fen.length()) {
+			end = endOfField(fen, start);
+			position.setHalfmoveClock(readNumber(fen, start, end));
+			start = skipSpaces(fen, end);
+
+			if(start < fen.length()) {
+				end = endOfField(fen, start);
+				position.setFullmoveNumber(readNumber(fen, start, end));
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Writes a position as a FEN record
+	 *
+	 * @param position	The position to write
+	 * @return			The FEN record of the position
+	 */
+	public static String toFen(Position position) {
+		return write(position, new StringBuilder(90)).toString();
+	}
+
+	/**
+	 * Appends the FEN record of a position to a builder
+	 *
+	 * @param position	The position to write
+	 * @param out		The builder to append the record to
+	 * @return			The builder passed
+	 */
+	public static StringBuilder write(Position position, StringBuilder out) {
+		for(int x = 0; x < 8; x++) {
+			int emptySquares = 0;
+
+			for(int y = 0; y < 8; y++) {
+				int piece = position.getPiece(Position.square(x, y));
+
+				if(piece == Position.EMPTY) {
+					emptySquares++;
+					continue;
+				}
+				if(emptySquares > 0) {
+					out.append((char) ('0' + emptySquares));
+					emptySquares = 0;
+				}
+				out.append(PIECE_SYMBOLS.charAt(piece));
+			}
+			if(emptySquares > 0) {
+				out.append((char) ('0' + emptySquares));
+			}
+			if(x < 7) {
+				out.append('/');
+			}
+		}
+		out.append(position.getSideToMove() == Position.WHITE ? " w " : " b ");
+
+		int rights = position.getCastlingRights();
+
+		if(rights == 0) {
+			out.append('-');
+		}
+		else {
+			if((rights & Position.WHITE_KINGSIDE) != 0)
+				out.append('K');
+			if((rights & Position.WHITE_QUEENSIDE) != 0)
+				out.append('Q');
+			if((rights & Position.BLACK_KINGSIDE) != 0)
+				out.append('k');
+			if((rights & Position.BLACK_QUEENSIDE) != 0)
+				out.append('q');
+		}
+		out.append(' ');
+
+		int enPassantSquare = position.getEnPassantSquare();
+
+		if(enPassantSquare == Position.NO_SQUARE) {
+			out.append('-');
+		}
+		else {
+			out.append((char) ('a' + Position.column(enPassantSquare))).append((char) ('8' - Position.row(enPassantSquare)));
+		}
+		return out.append(' ').append(position.getHalfmoveClock()).append(' ').append(position.getFullmoveNumber());
+	}
+
+	/**
+	 * Reads a FEN record into a reference grid of chess pieces, carrying the
+	 * castling rights and En Passant square over onto the pieces' first move
+	 * flags. The player to move is read with parse(fen).getSideToMove().
+	 *
+	 * @param fen	The FEN record to read
+	 * @return		The array that references all the chess piece locations
+	 */
+	public static ChessPiece[][] toReferenceGrid(CharSequence fen) {
+		return BoardAdapter.toReferenceGrid(parse(fen));
+	}
+
+	/**
+	 * Writes a reference grid of chess pieces as a FEN record, deriving the
+	 * castling rights from the King and Rook first move flags and the En Passant
+	 * square from the Pawn En Passant status
+	 *
+	 * @param referenceGrid	The array that references all the chess piece locations
+	 * @param playerTurn	Represents the player's turn
+	 * @return				The FEN record of the grid
+	 */
+	public static String toFen(ChessPiece[][] referenceGrid, PieceColor playerTurn) {
+		return toFen(BoardAdapter.fromReferenceGrid(referenceGrid, playerTurn));
+	}
+
+	private static int skipSpaces(CharSequence fen, int index) {
+		while(index < fen.length() && fen.charAt(index) <= ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	private static int endOfField(CharSequence fen, int index) {
+		while(index < fen.length() && fen.charAt(index) > ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * @return The start of the field following the given index, which must exist
+	 */
+	private static int requireField(CharSequence fen, int index) {
+		index = skipSpaces(fen, index);
+
+		if(index >= fen.length()) {
+			throw new IllegalArgumentException("Incomplete FEN record: " + fen);
+		}
+		return index;
+	}
+
+	private static int readNumber(CharSequence fen, int start, int end) {
+		int value = 0;
+
+		for(int i = start; i < end; i++) {
+			char digit = fen.charAt(i);
+
+			if(digit < '0' || digit > '9' || value > 100000) {
+				throw invalid("move counter", fen);
+			}
+			value = value * 10 + digit - '0';
+		}
+		return value;
+	}
+
+	private static IllegalArgumentException invalid(String field, CharSequence fen) {
+		return new IllegalArgumentException("Invalid " + field + " in FEN record: " + fen);
+	}
+}
@@ -0,0 +1,120 @@
+package com.chess.notation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.chess.engine.Move;
+import com.chess.engine.Position;
+
+/**
+ * A game read from a PGN archive: its tag pairs, the moves decoded against
+ * the legal moves of each position, and the game termination marker. A game
+ * whose movetext holds a move that isn't legal keeps the moves before it and
+ * records where decoding stopped.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PgnGame {
+
+	private final Map<String, String> tags = new LinkedHashMap<String, String>(); //Tag pairs in the order read
+	private int[] moves = new int[128]; //Encoded moves decoded so far
+	private int moveCount;
+	private String result; //Termination marker such as "1-0", null if the movetext had none
+	private String illegalMove; //First move that couldn't be decoded, null when every move was legal
+	private int illegalMovePly = -1; //Ply of the illegal move, counted from 0
+
+	/**
+	 * Empties the game so it can be read into again
+	 */
+	public void clear() {
+		tags.clear();
+		moveCount = 0;
+		result = null;
+		illegalMove = null;
+		illegalMovePly = -1;
+	}
+
+	void setTag(String name, String value) {
+		tags.put(name, value);
+	}
+
+	void addMove(int move) {
+		if(moveCount == moves.length) {
+			moves = Arrays.copyOf(moves, moves.length * 2);
+		}
+		moves[moveCount++] = move;
+	}
+
+	void setResult(String result) {
+		this.result = result;
+	}
+
+	void setIllegalMove(String illegalMove, int ply) {
+		this.illegalMove = illegalMove;
+		this.illegalMovePly = ply;
+	}
+
+	/**
+	 * @param name	Name of the tag, such as "White" or "Event"
+	 * @return		Value of the tag, or null if the game doesn't have it
+	 */
+	public String getTag(String name) {
+		return tags.get(name);
+	}
+
+	public Map<String, String> getTags() {
+		return Collections.unmodifiableMap(tags);
+	}
+
+	/**
+	 * @return The position the moves start from, given by the FEN tag when present
+	 */
+	public Position getStartingPosition() {
+		String fen = tags.get("FEN");
+		return fen != null ? Fen.parse(fen) : Position.startingPosition();
+	}
+
+	public int getMoveCount() {
+		return moveCount;
+	}
+
+	/**
+	 * @param ply	Index of the move, counted from 0
+	 * @return		The encoded move
+	 */
+	public int getMove(int ply) {
+		return moves[ply];
+	}
+
+	public String getResult() {
+		return result;
+	}
+
+	/**
+	 * @return Whether every move of the movetext was legal
+	 */
+	public boolean isLegal() {
+		return illegalMove == null;
+	}
+
+	public String getIllegalMove() {
+		return illegalMove;
+	}
+
+	public int getIllegalMovePly() {
+		return illegalMovePly;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+
+		for(int i = 0; i < moveCount; i++) {
+			text.append(i == 0 ? "" : " ").append(Move.toString(moves[i]));
+		}
+		return tags + " " + text + (result == null ? "" : " " + result);
+	}
+}
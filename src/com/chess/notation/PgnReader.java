@@ -0,0 +1,373 @@
+package com.chess.notation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+
+/**
+ * Reads the games of a PGN archive one at a time from a channel, through a
+ * fixed buffer, so an archive of any size is read without holding more than
+ * one game in memory. Each move is decoded from SAN against the legal moves
+ * of the position it is played from. Comments, variations, annotation glyphs
+ * and escaped lines are skipped.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PgnReader implements Closeable {
+
+	private static final int BUFFER_BYTES = 1 << 16;
+	private static final String[] RESULTS = {"1-0", "0-1", "1/2-1/2", "*"}; //Game termination markers
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+	private final byte[] bytes = buffer.array();
+	private int index; //Next byte of the buffer to read
+	private int limit; //Number of bytes in the buffer
+	private long bytesRead; //Bytes read from the channel so far
+
+	private final StringBuilder token = new StringBuilder(); //Movetext token being read, reused for every token
+	private byte[] tagValue = new byte[256]; //Bytes of the tag value being read, decoded as UTF-8 once complete
+	private final Position position = new Position(); //Position the next move is played from
+	private final MoveList legalMoves = new MoveList();
+
+	/**
+	 * Constructor for PgnReader objects
+	 *
+	 * @param channel	The channel to read the archive from
+	 */
+	public PgnReader(ReadableByteChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * @param file	The PGN archive to read
+	 * @return		A reader of the archive
+	 * @throws IOException	If the file can't be opened
+	 */
+	public static PgnReader open(Path file) throws IOException {
+		return new PgnReader(FileChannel.open(file, StandardOpenOption.READ));
+	}
+
+	/**
+	 * @return The next game of the archive, or null once every game has been read
+	 * @throws IOException	If the channel can't be read
+	 */
+	public PgnGame next() throws IOException {
+		PgnGame game = new PgnGame();
+		return readGame(game) ? game : null;
+	}
+
+	/**
+	 * Reads the next game of the archive into an existing game. A game ends at
+	 * its termination marker, or where the tags of the next game begin when
+	 * the marker is missing.
+	 *
+	 * @param game	The game to read into, emptied first
+	 * @return		Whether a game was read, false at the end of the archive
+	 * @throws IOException	If the channel can't be read
+	 */
+	public boolean readGame(PgnGame game) throws IOException {
+		game.clear();
+		boolean started = false; //Whether any part of the game has been read
+		boolean inMovetext = false;
+
+		while(true) {
+			int symbol = read();
+
+			if(symbol < 0) {
+				//A game of tags alone ends the archive without movetext
+				if(started && !inMovetext) {
+					setUpPosition(game);
+				}
+				return started;
+			}
+			//Whitespace, and bytes outside ASCII such as a byte order mark, separate tokens
+			if(symbol <= ' ' || symbol >= 0x80) {
+				continue;
+			}
+			switch(symbol) {
+			case '[':
+				if(inMovetext) {
+					index--;
+					return true;
+				}
+				readTag(game);
+				started = true;
+				break;
+			case '{':
+				skipPast('}');
+				break;
+			case ';':
+			case '%':
+				skipPast('\n');
+				break;
+			case '(':
+				skipVariation();
+				break;
+			case '$':
+				readToken(symbol);
+				break;
+			default:
+				readToken(symbol);
+				started = true;
+
+				if(!inMovetext) {
+					inMovetext = true;
+					setUpPosition(game);
+				}
+				String result = findResult();
+
+				if(result != null) {
+					game.setResult(result);
+					return true;
+				}
+				readMove(game);
+			}
+		}
+	}
+
+	/**
+	 * @return The number of bytes read from the channel so far
+	 */
+	public long getBytesRead() {
+		return bytesRead;
+	}
+
+	/**
+	 * @return The number of bytes of the archive consumed so far, not counting those still buffered
+	 */
+	public long getOffset() {
+		return bytesRead - (limit - index);
+	}
+
+	/**
+	 * The position reached by the last game read, after its last legal move.
+	 * It is set up again by the next game read, so copy it to keep it.
+	 *
+	 * @return The position the last game read ended in
+	 */
+	public Position getPosition() {
+		return position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Sets up the position the movetext starts from, marking the game illegal
+	 * when its FEN tag can't be read
+	 */
+	private void setUpPosition(PgnGame game) {
+		String fen = game.getTag("FEN");
+
+		try {
+			Fen.parse(fen != null ? fen : Fen.STARTING_POSITION, position);
+		} catch (IllegalArgumentException e) {
+			game.setIllegalMove("[FEN \"" + fen + "\"]", 0);
+		}
+	}
+
+	/**
+	 * Decodes the SAN move of the current token, after any move number, and
+	 * plays it. Once a move of the game is illegal the rest are ignored.
+	 */
+	private void readMove(PgnGame game) {
+		if(!game.isLegal()) {
+			return;
+		}
+		int start = 0;
+
+		while(start < token.length() && token.charAt(start) >= '0' && token.charAt(start) <= '9') {
+			start++;
+		}
+		if(start < token.length() && token.charAt(start) == '.') {
+			while(start < token.length() && token.charAt(start) == '.') {
+				start++;
+			}
+		}
+		else {
+			start = 0;
+		}
+		if(start == token.length()) {
+			return;
+		}
+		token.delete(0, start);
+
+		legalMoves.clear();
+		MoveGenerator.generateLegalMoves(position, legalMoves);
+		int move = San.parse(token, position, legalMoves);
+
+		if(move == Move.NONE) {
+			game.setIllegalMove(token.toString(), game.getMoveCount());
+			return;
+		}
+		position.makeMove(move);
+		game.addMove(move);
+	}
+
+	/**
+	 * @return The termination marker matching the current token, or null if it isn't one
+	 */
+	private String findResult() {
+		for(String result : RESULTS) {
+			if(result.length() == token.length() && token.indexOf(result) == 0) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads a tag pair such as [White "Carlsen, Magnus"], the opening bracket
+	 * having been read already. Tag names are ASCII, but values such as player
+	 * names may hold any character, so their bytes are decoded as UTF-8.
+	 */
+	private void readTag(PgnGame game) throws IOException {
+		token.setLength(0);
+		int symbol = read();
+
+		while(symbol >= 0 && symbol <= ' ') {
+			symbol = read();
+		}
+		while(symbol > ' ' && symbol != '"' && symbol != ']') {
+			token.append((char) symbol);
+			symbol = read();
+		}
+		String name = token.toString();
+		int valueLength = 0;
+
+		while(symbol >= 0 && symbol != '"' && symbol != ']' && symbol != '\n') {
+			symbol = read();
+		}
+		if(symbol == '"') {
+			symbol = read();
+
+			while(symbol >= 0 && symbol != '"') {
+				//A backslash escapes a quote or another backslash
+				if(symbol == '\\') {
+					symbol = read();
+				}
+				if(symbol >= 0) {
+					if(valueLength == tagValue.length) {
+						tagValue = Arrays.copyOf(tagValue, valueLength * 2);
+					}
+					tagValue[valueLength++] = (byte) symbol;
+				}
+				symbol = read();
+			}
+			symbol = read();
+		}
+
+		//A tag pair never spans lines, so a malformed one ends with its line
+		while(symbol >= 0 && symbol != ']' && symbol != '\n') {
+			symbol = read();
+		}
+		if(!name.isEmpty()) {
+			game.setTag(name, new String(tagValue, 0, valueLength, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Reads a token up to the next whitespace or movetext delimiter
+	 */
+	private void readToken(int first) throws IOException {
+		token.setLength(0);
+		token.append((char) first);
+
+		while(true) {
+			int symbol = read();
+
+			if(symbol < 0) {
+				return;
+			}
+			if(symbol <= ' ' || symbol == '{' || symbol == '}' || symbol == '(' || symbol == ')'
+					|| symbol == '[' || symbol == ']' || symbol == ';') {
+				index--;
+				return;
+			}
+			token.append((char) symbol);
+		}
+	}
+
+	/**
+	 * Skips a variation and the variations and comments nested in it, the
+	 * opening parenthesis having been read already
+	 */
+	private void skipVariation() throws IOException {
+		int depth = 1;
+
+		while(depth > 0) {
+			int symbol = read();
+
+			if(symbol < 0) {
+				return;
+			}
+			if(symbol == '(') {
+				depth++;
+			}
+			else if(symbol == ')') {
+				depth--;
+			}
+			else if(symbol == '{') {
+				skipPast('}');
+			}
+			else if(symbol == ';') {
+				skipPast('\n');
+			}
+		}
+	}
+
+	private void skipPast(int end) throws IOException {
+		int symbol = read();
+
+		while(symbol >= 0 && symbol != end) {
+			symbol = read();
+		}
+	}
+
+	/**
+	 * @return The next byte of the archive, or -1 at its end
+	 */
+	private int read() throws IOException {
+		if(index == limit && !fill()) {
+			return -1;
+		}
+		return bytes[index++] & 0xFF;
+	}
+
+	/**
+	 * Refills the buffer from the channel
+	 *
+	 * @return Whether any bytes were read, false at the end of the channel
+	 */
+	private boolean fill() throws IOException {
+		buffer.clear();
+		int count;
+
+		do {
+			count = channel.read(buffer);
+		} while(count == 0);
+
+		if(count < 0) {
+			return false;
+		}
+		index = 0;
+		limit = count;
+		bytesRead += count;
+		return true;
+	}
+}
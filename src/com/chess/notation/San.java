@@ -0,0 +1,257 @@
+package com.chess.notation;
+
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+import com.chess.enums.GameStatus;
+
+/**
+ * Reads and writes moves in Standard Algebraic Notation, such as "Nbd7",
+ * "exd5", "e8=Q+" or "O-O-O". Moves are matched against the legal moves of
+ * the position, so a move that is ambiguous or illegal is rejected rather
+ * than guessed.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class San {
+
+	private static final String PIECE_LETTERS = "PNBRQK"; //Letter of every piece type
+
+	/**
+	 * Finds the legal move written in SAN
+	 *
+	 * @param san		The move to read
+	 * @param position	The position the move is played from
+	 * @return			The encoded move, or Move.NONE if it isn't a single legal move
+	 */
+	public static int parse(CharSequence san, Position position) {
+		return parse(san, position, MoveGenerator.generateLegalMoves(position, new MoveList()));
+	}
+
+	/**
+	 * Finds the legal move written in SAN among the legal moves already
+	 * generated for the position. Check, mate and annotation marks are
+	 * ignored, as are the capture mark and a missing promotion sign.
+	 *
+	 * @param san			The move to read
+	 * @param position		The position the move is played from
+	 * @param legalMoves	The legal moves of the position
+	 * @return				The encoded move, or Move.NONE if it isn't a single legal move
+	 */
+	public static int parse(CharSequence san, Position position, MoveList legalMoves) {
+		int end = san.length();
+
+		while(end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+			end--;
+		}
+		if(end < 2) {
+			return Move.NONE;
+		}
+
+		//Castling is written with letter O, and sometimes with zeros
+		char first = san.charAt(0);
+
+		if(first == 'O' || first == '0') {
+			int castles = 0;
+
+			for(int i = 0; i < end; i++) {
+				if(san.charAt(i) == first) {
+					castles++;
+				}
+			}
+			return findCastling(castles == 3, legalMoves);
+		}
+		int type = PIECE_LETTERS.indexOf(first);
+		int start = 1;
+
+		if(type < 0) {
+			type = Position.PAWN;
+			start = 0;
+		}
+
+		//The promotion piece follows the target square, with or without an equals sign
+		int promotion = Position.PAWN;
+		int promotionType = PIECE_LETTERS.indexOf(Character.toUpperCase(san.charAt(end - 1)));
+
+		if(type == Position.PAWN && promotionType > Position.PAWN && promotionType < Position.KING) {
+			promotion = promotionType;
+			end--;
+
+			if(end > 0 && san.charAt(end - 1) == '=') {
+				end--;
+			}
+		}
+		if(end - start < 2) {
+			return Move.NONE;
+		}
+		int to = squareAt(san, end - 2);
+
+		if(to == Position.NO_SQUARE) {
+			return Move.NONE;
+		}
+
+		//Anything between the piece and the target square narrows down the origin
+		int fromColumn = -1;
+		int fromRow = -1;
+
+		for(int i = start; i < end - 2; i++) {
+			char symbol = san.charAt(i);
+
+			if(symbol >= 'a' && symbol <= 'h') {
+				fromColumn = symbol - 'a';
+			}
+			else if(symbol >= '1' && symbol <= '8') {
+				fromRow = '8' - symbol;
+			}
+			else if(symbol != 'x' && symbol != ':' && symbol != '-') {
+				return Move.NONE;
+			}
+		}
+		int found = Move.NONE;
+
+		for(int i = 0; i < legalMoves.size(); i++) {
+			int move = legalMoves.get(i);
+			int from = Move.fromOf(move);
+
+			if(Move.toOf(move) != to || Position.typeOf(position.getPiece(from)) != type
+					|| Move.flagOf(move) == Move.CASTLING
+					|| (fromColumn >= 0 && Position.column(from) != fromColumn)
+					|| (fromRow >= 0 && Position.row(from) != fromRow)
+					|| Move.promotionOf(move) != promotion) {
+				continue;
+			}
+			if(found != Move.NONE) {
+				return Move.NONE;
+			}
+			found = move;
+		}
+		return found;
+	}
+
+	/**
+	 * Writes a legal move in SAN, with the check or mate mark
+	 *
+	 * @param position	The position the move is played from, left unchanged
+	 * @param move		The encoded legal move to write
+	 * @return			The move in SAN
+	 */
+	public static String toSan(Position position, int move) {
+		return write(position, move, MoveGenerator.generateLegalMoves(position, new MoveList()), new StringBuilder(8)).toString();
+	}
+
+	/**
+	 * Appends a legal move in SAN, with the check or mate mark, to a builder
+	 *
+	 * @param position		The position the move is played from, left unchanged
+	 * @param move			The encoded legal move to write
+	 * @param legalMoves	The legal moves of the position, to tell apart pieces reaching the same square
+	 * @param out			The builder to append the move to
+	 * @return				The builder passed
+	 */
+	public static StringBuilder write(Position position, int move, MoveList legalMoves, StringBuilder out) {
+		int from = Move.fromOf(move);
+		int to = Move.toOf(move);
+		int flag = Move.flagOf(move);
+		int type = Position.typeOf(position.getPiece(from));
+		boolean capture = flag == Move.EN_PASSANT || position.getPiece(to) != Position.EMPTY;
+
+		if(flag == Move.CASTLING) {
+			out.append(to > from ? "O-O" : "O-O-O");
+		}
+		else if(type == Position.PAWN) {
+			if(capture) {
+				out.append((char) ('a' + Position.column(from))).append('x');
+			}
+			appendSquare(out, to);
+
+			if(flag == Move.PROMOTION) {
+				out.append('=').append(PIECE_LETTERS.charAt(Move.promotionOf(move)));
+			}
+		}
+		else {
+			out.append(PIECE_LETTERS.charAt(type));
+			appendOrigin(position, move, legalMoves, out);
+
+			if(capture) {
+				out.append('x');
+			}
+			appendSquare(out, to);
+		}
+		position.makeMove(move);
+		GameStatus status = MoveGenerator.getStatus(position);
+		position.unmakeMove();
+
+		if(status == GameStatus.CHECKMATE) {
+			out.append('#');
+		}
+		else if(status == GameStatus.CHECK) {
+			out.append('+');
+		}
+		return out;
+	}
+
+	/**
+	 * Appends the origin file, rank or square needed to tell the moving piece
+	 * apart from others of its type reaching the same square
+	 */
+	private static void appendOrigin(Position position, int move, MoveList legalMoves, StringBuilder out) {
+		int from = Move.fromOf(move);
+		int type = Position.typeOf(position.getPiece(from));
+		boolean ambiguous = false;
+		boolean sameColumn = false;
+		boolean sameRow = false;
+
+		for(int i = 0; i < legalMoves.size(); i++) {
+			int other = legalMoves.get(i);
+			int otherFrom = Move.fromOf(other);
+
+			if(otherFrom != from && Move.toOf(other) == Move.toOf(move) && Position.typeOf(position.getPiece(otherFrom)) == type) {
+				ambiguous = true;
+				sameColumn |= Position.column(otherFrom) == Position.column(from);
+				sameRow |= Position.row(otherFrom) == Position.row(from);
+			}
+		}
+		if(!ambiguous) {
+			return;
+		}
+		if(!sameColumn) {
+			out.append((char) ('a' + Position.column(from)));
+		}
+		else if(!sameRow) {
+			out.append((char) ('8' - Position.row(from)));
+		}
+		else {
+			appendSquare(out, from);
+		}
+	}
+
+	private static int findCastling(boolean queenside, MoveList legalMoves) {
+		for(int i = 0; i < legalMoves.size(); i++) {
+			int move = legalMoves.get(i);
+
+			if(Move.flagOf(move) == Move.CASTLING && (Move.toOf(move) < Move.fromOf(move)) == queenside) {
+				return move;
+			}
+		}
+		return Move.NONE;
+	}
+
+	/**
+	 * @return The square written at the index, such as "e4", or NO_SQUARE
+	 */
+	private static int squareAt(CharSequence san, int index) {
+		char file = san.charAt(index);
+		char rank = san.charAt(index + 1);
+
+		if(file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+			return Position.NO_SQUARE;
+		}
+		return Position.square('8' - rank, file - 'a');
+	}
+
+	private static void appendSquare(StringBuilder out, int square) {
+		out.append((char) ('a' + Position.column(square))).append((char) ('8' - Position.row(square)));
+	}
+}
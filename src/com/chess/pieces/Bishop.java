@@ -1,9 +1,5 @@
 package com.chess.pieces;
 
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
-
 import com.chess.enums.PieceColor;
 
 /**
@@ -16,7 +12,7 @@ import com.chess.enums.PieceColor;
 public class Bishop extends ChessPiece {
 
 	/**
-	 * Constructor for Bishop objects to set image, color, possible movement directions, and starting locations
+	 * Constructor for Bishop objects to set color, possible movement directions, and starting locations
 	 * 
 	 * @param color Color of the bishop piece
 	 * @param x The starting x-coordinate location
@@ -26,24 +22,6 @@ public class Bishop extends ChessPiece {
 		
 		super(color, x, y);
 		
-		switch(color) {
-		
-		case BLACK:
-			try {
-				this.image = ImageIO.read(getClass().getResource("/resources/chess_blackBishop.png"));
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			break;
-		case WHITE:
-			try {
-				this.image = ImageIO.read(getClass().getResource("/resources/chess_whiteBishop.png"));
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			break;
-		}
-		
 		for(int i = 1; i < 8; i++) {
 			int[] upperLeftCoordinate = {-i, -i};
 			possibleDirections.add(upperLeftCoordinate);
@@ -16,7 +16,6 @@ public abstract class ChessPiece {
 
 	protected int[] location = new int[2]; //Current location of the chess piece
 	protected int numOfMoves; //Total number of moves made by the chess piece
-	protected BufferedImage image; //Image representing the chess piece
 	protected boolean isWhite; //Determines the chess piece's actual color
 	protected ArrayList<int[]> possibleDirections = new ArrayList<int[]>(); //Represents the knight's possible move directions
 	
@@ -64,10 +63,10 @@ public abstract class ChessPiece {
 	}
 	
 	/**
-	 * @return The buffered image of the chess piece
+	 * @return The buffered image of the chess piece, shared by every piece of its color and type
 	 */
 	public BufferedImage getPieceImage() {
-		return this.image;
+		return PieceSprites.getSprite(this);
 	}
 	
 	/**
@@ -1,9 +1,5 @@
 package com.chess.pieces;
 
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
-
 import com.chess.enums.PieceColor;
 
 /**
@@ -16,7 +12,7 @@ import com.chess.enums.PieceColor;
 public class Knight extends ChessPiece {
 	
 	/**
-	 * Constructor for Knight objects to set image, color, possible movement directions, and starting locations
+	 * Constructor for Knight objects to set color, possible movement directions, and starting locations
 	 * 
 	 * @param color Color of the knight piece
 	 * @param x The starting x-coordinate location
@@ -26,23 +22,6 @@ public class Knight extends ChessPiece {
 		
 		super(color, x, y);
 		
-		switch(color) {
-			case BLACK:
-				try {
-					this.image = ImageIO.read(getClass().getResource("/resources/chess_blackKnight.png"));
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-				break;
-			case WHITE:
-				try {
-					this.image = ImageIO.read(getClass().getResource("/resources/chess_whiteKnight.png"));
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-				break;
-		}
-		
 		int[] knightCoordinate1 = {2, -1};
 		possibleDirections.add(knightCoordinate1);
 		
@@ -1,10 +1,7 @@
 package com.chess.pieces;
 
-import java.io.IOException;
 import java.util.ArrayList;
 
-import javax.imageio.ImageIO;
-
 import com.chess.enums.PieceColor;
 
 /**
@@ -20,7 +17,7 @@ public class Pawn extends ChessPiece {
 	private boolean enPassant = false; //Records if the pawn is able to perform an En Passant attack
 	
 	/**
-	 * Constructor for Pawn objects to set image, color, and starting locations
+	 * Constructor for Pawn objects to set color and starting locations
 	 * 
 	 * @param color Color of the Pawn piece
 	 * @param x The starting x-coordinate location
@@ -29,23 +26,6 @@ public class Pawn extends ChessPiece {
 	public Pawn(PieceColor color, int x, int y) {
 
 		super(color, x, y);
-		
-		switch(color) {
-			case BLACK:
-				try {
-					this.image = ImageIO.read(getClass().getResource("/resources/chess_blackPawn.png"));
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-				break;
-			case WHITE:
-				try {
-					this.image = ImageIO.read(getClass().getResource("/resources/chess_whitePawn.png"));
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-				break;
-		}
 	}
 
 	/**
@@ -0,0 +1,97 @@
+package com.chess.pieces;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Process-wide cache of the chess piece images. The first request decodes
+ * every piece image once and packs them into a single atlas image, one row per
+ * color, and every later request returns a view into that atlas. The chess
+ * piece objects themselves carry no image.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PieceSprites {
+
+	private static final String[] COLOR_NAMES = {"white", "black"};
+	private static final String[] TYPE_NAMES = {"Pawn", "Knight", "Bishop", "Rook", "Queen", "King"};
+
+	private static BufferedImage atlas; //Every piece image, built on the first request
+	private static final BufferedImage[] sprites = new BufferedImage[COLOR_NAMES.length * TYPE_NAMES.length]; //Views into the atlas
+
+	/**
+	 * @param piece	The chess piece to draw
+	 * @return		The image representing the chess piece, or null if it couldn't be read
+	 */
+	public static BufferedImage getSprite(ChessPiece piece) {
+		int type;
+
+		if(piece instanceof Pawn)
+			type = 0;
+		else if(piece instanceof Knight)
+			type = 1;
+		else if(piece instanceof Bishop)
+			type = 2;
+		else if(piece instanceof Rook)
+			type = 3;
+		else if(piece instanceof Queen)
+			type = 4;
+		else
+			type = 5;
+
+		return getSprite(piece.isPieceWhite(), type);
+	}
+
+	/**
+	 * @param isWhite	Whether the piece is white
+	 * @param type		Index of the piece type, from 0 for the pawn to 5 for the king
+	 * @return			The image representing the piece, or null if it couldn't be read
+	 */
+	public static synchronized BufferedImage getSprite(boolean isWhite, int type) {
+		if(atlas == null) {
+			buildAtlas();
+		}
+		return sprites[(isWhite ? 0 : TYPE_NAMES.length) + type];
+	}
+
+	/**
+	 * Decodes every piece image and copies them into the cells of the atlas
+	 */
+	private static void buildAtlas() {
+		BufferedImage[] decoded = new BufferedImage[sprites.length];
+		int cellWidth = 1;
+		int cellHeight = 1;
+
+		for(int i = 0; i < decoded.length; i++) {
+			String name = "/resources/chess_" + COLOR_NAMES[i / TYPE_NAMES.length] + TYPE_NAMES[i % TYPE_NAMES.length] + ".png";
+
+			try {
+				decoded[i] = ImageIO.read(PieceSprites.class.getResource(name));
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+			if(decoded[i] != null) {
+				cellWidth = Math.max(cellWidth, decoded[i].getWidth());
+				cellHeight = Math.max(cellHeight, decoded[i].getHeight());
+			}
+		}
+		atlas = new BufferedImage(cellWidth * TYPE_NAMES.length, cellHeight * COLOR_NAMES.length, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+
+		for(int i = 0; i < decoded.length; i++) {
+			if(decoded[i] == null) {
+				continue;
+			}
+			int x = (i % TYPE_NAMES.length) * cellWidth;
+			int y = (i / TYPE_NAMES.length) * cellHeight;
+
+			graphics.drawImage(decoded[i], x, y, null);
+			sprites[i] = atlas.getSubimage(x, y, decoded[i].getWidth(), decoded[i].getHeight());
+		}
+		graphics.dispose();
+	}
+}
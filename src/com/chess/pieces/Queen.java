@@ -1,9 +1,5 @@
 package com.chess.pieces;
 
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
-
 import com.chess.enums.PieceColor;
 
 /**
@@ -16,7 +12,7 @@ import com.chess.enums.PieceColor;
 public class Queen extends ChessPiece {
 
 	/**
-	 * Constructor for Queen objects to set image, color, possible movement directions, and starting locations
+	 * Constructor for Queen objects to set color, possible movement directions, and starting locations
 	 * 
 	 * @param color Color of the queen piece
 	 * @param x The starting x-coordinate location
@@ -26,24 +22,6 @@ public class Queen extends ChessPiece {
 		
 		super(color, x, y);
 		
-		switch(color) {
-		
-		case BLACK:
-			try {
-				this.image = ImageIO.read(getClass().getResource("/resources/chess_blackQueen.png"));
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			break;
-		case WHITE:
-			try {
-				this.image = ImageIO.read(getClass().getResource("/resources/chess_whiteQueen.png"));
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			break;
-		}
-		
 		for(int i = 1; i < 8; i++) {
 			int[] northCoordinate = {-i, 0};
 			possibleDirections.add(northCoordinate);
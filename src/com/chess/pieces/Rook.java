@@ -1,9 +1,5 @@
 package com.chess.pieces;
 
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
-
 import com.chess.enums.PieceColor;
 
 /**
@@ -18,7 +14,7 @@ public class Rook extends ChessPiece {
 	private boolean isFirstMove = true; //Records when the rook has made its first move
 	
 	/**
-	 * Constructor for Rook objects to set image, color, possible movement directions, and starting locations
+	 * Constructor for Rook objects to set color, possible movement directions, and starting locations
 	 * 
 	 * @param color Color of the rook piece
 	 * @param x The starting x-coordinate location
@@ -28,24 +24,6 @@ public class Rook extends ChessPiece {
 		
 		super(color, x, y);
 		
-		switch(color) {
-		
-		case BLACK:
-			try {
-				this.image = ImageIO.read(getClass().getResource("/resources/chess_blackRook.png"));
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			break;
-		case WHITE:
-			try {
-				this.image = ImageIO.read(getClass().getResource("/resources/chess_whiteRook.png"));
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			break;
-		}
-		
 		for(int i = 1; i < 8; i++) {
 			int[] northCoordinate = {-i, 0};
 			possibleDirections.add(northCoordinate);
@@ -0,0 +1,78 @@
+package com.chess.search;
+
+import java.util.Arrays;
+
+import com.chess.engine.Move;
+
+/**
+ * What a search learned about quiet moves, for ordering them: the killer
+ * moves, two quiet moves per ply that last caused a cutoff there, and the
+ * butterfly history, a score for every side, origin and target square that
+ * grows each time a quiet move between them causes a cutoff
+ *
+ * Date: 10/17/2026
+ *
+ */
+final class MoveHistory {
+
+	private static final int MAX_HISTORY = 1 << 20; //Scores are halved once one reaches this, so recent cutoffs weigh more
+
+	private final int[][] killers = new int[Searcher.MAX_PLY + 1][2];
+	private final int[] history = new int[2 * 64 * 64]; //Indexed by side to move, origin and target square
+
+	/**
+	 * Prepares for a new search: the killers are forgotten, as they belong to
+	 * plies of the previous search, and the history is aged
+	 */
+	void newSearch() {
+		for(int[] plyKillers : killers) {
+			Arrays.fill(plyKillers, Move.NONE);
+		}
+		age();
+	}
+
+	/**
+	 * @return The first or second killer move of a ply, or Move.NONE
+	 */
+	int getKiller(int ply, int slot) {
+		return killers[ply][slot];
+	}
+
+	/**
+	 * @return The history score of a move for the side playing it
+	 */
+	int getScore(int sideToMove, int move) {
+		return history[index(sideToMove, move)];
+	}
+
+	/**
+	 * Records a quiet move that caused a cutoff
+	 *
+	 * @param sideToMove	The player of the move
+	 * @param move			The encoded move
+	 * @param ply			Ply it was played at
+	 * @param depth			Remaining depth of the search it refuted, deeper cutoffs counting more
+	 */
+	void addCutoff(int sideToMove, int move, int ply, int depth) {
+		if(killers[ply][0] != move) {
+			killers[ply][1] = killers[ply][0];
+			killers[ply][0] = move;
+		}
+		int index = index(sideToMove, move);
+		history[index] += depth * depth;
+
+		if(history[index] >= MAX_HISTORY) {
+			age();
+		}
+	}
+
+	private void age() {
+		for(int i = 0; i < history.length; i++) {
+			history[i] >>= 1;
+		}
+	}
+
+	private static int index(int sideToMove, int move) {
+		return (sideToMove << 12) | (Move.fromOf(move) << 6) | Move.toOf(move);
+	}
+}
@@ -0,0 +1,211 @@
+package com.chess.search;
+
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+
+/**
+ * Hands out the moves of a position one at a time, most promising first, and
+ * generates them in stages so a cutoff early on saves generating the rest:
+ *
+ *   1. the hash move, tried before any move is generated
+ *   2. captures and promotions, most valuable victim first and, between equal
+ *      victims, least valuable attacker first (MVV-LVA)
+ *   3. the killer moves of the ply
+ *   4. the other quiet moves, by history score
+ *
+ * Moves remembered from other positions are only handed out when legal.
+ * Each stage picks its best remaining move by a selection pass, so moves never
+ * reached are never sorted. One MovePicker is kept per ply and reused.
+ *
+ * Date: 10/17/2026
+ *
+ */
+final class MovePicker {
+
+	private static final int HASH_MOVE = 0;
+	private static final int GENERATE_CAPTURES = 1;
+	private static final int CAPTURES = 2;
+	private static final int FIRST_KILLER = 3;
+	private static final int SECOND_KILLER = 4;
+	private static final int GENERATE_QUIET_MOVES = 5;
+	private static final int QUIET_MOVES = 6;
+	private static final int DONE = 7;
+
+	private static final int QUEEN_PROMOTION_BONUS = 40; //Ahead of every capture but those of a queen
+	private static final int UNDERPROMOTION_PENALTY = -100; //Behind every capture
+
+	private final MoveHistory history;
+	private final MoveList moves = new MoveList();
+	private final int[] scores = new int[MoveList.CAPACITY];
+
+	private Position position;
+	private int stage = DONE;
+	private int next; //Index of the next move of the list to hand out
+	private int hashMove;
+	private int firstKiller;
+	private int secondKiller;
+	private boolean capturesOnly;
+
+	/**
+	 * Constructor for MovePicker objects
+	 *
+	 * @param history	The killer moves and history scores to order quiet moves by
+	 */
+	MovePicker(MoveHistory history) {
+		this.history = history;
+	}
+
+	/**
+	 * Starts handing out every legal move of a position
+	 *
+	 * @param position	The position, which must be left as it is between calls to next
+	 * @param hashMove	Move to try first, Move.NONE for none
+	 * @param ply		Ply of the position, whose killer moves are tried after the captures
+	 */
+	void reset(Position position, int hashMove, int ply) {
+		this.position = position;
+		this.hashMove = hashMove;
+		this.firstKiller = history.getKiller(ply, 0);
+		this.secondKiller = history.getKiller(ply, 1);
+		this.capturesOnly = false;
+		this.stage = HASH_MOVE;
+	}
+
+	/**
+	 * Starts handing out the legal captures and promotions of a position only
+	 *
+	 * @param position	The position, which must be left as it is between calls to next
+	 */
+	void resetForCaptures(Position position) {
+		this.position = position;
+		this.hashMove = Move.NONE;
+		this.capturesOnly = true;
+		this.stage = GENERATE_CAPTURES;
+	}
+
+	/**
+	 * @return The next legal move, or Move.NONE once every move was handed out
+	 */
+	int next() {
+		while(true) {
+			switch(stage) {
+			case HASH_MOVE:
+				stage = GENERATE_CAPTURES;
+
+				if(isLegal(hashMove)) {
+					return hashMove;
+				}
+				hashMove = Move.NONE;
+				break;
+			case GENERATE_CAPTURES:
+				moves.clear();
+				MoveGenerator.generateLegalCaptures(position, moves);
+
+				for(int i = 0; i < moves.size(); i++) {
+					scores[i] = captureScore(moves.get(i));
+				}
+				next = 0;
+				stage = CAPTURES;
+				break;
+			case CAPTURES:
+				int capture = pickBest();
+
+				if(capture != Move.NONE) {
+					return capture;
+				}
+				stage = capturesOnly ? DONE : FIRST_KILLER;
+				break;
+			case FIRST_KILLER:
+				stage = SECOND_KILLER;
+
+				if(firstKiller != hashMove && isQuiet(firstKiller) && isLegal(firstKiller)) {
+					return firstKiller;
+				}
+				break;
+			case SECOND_KILLER:
+				stage = GENERATE_QUIET_MOVES;
+
+				if(secondKiller != hashMove && secondKiller != firstKiller && isQuiet(secondKiller) && isLegal(secondKiller)) {
+					return secondKiller;
+				}
+				break;
+			case GENERATE_QUIET_MOVES:
+				moves.clear();
+				MoveGenerator.generateLegalQuietMoves(position, moves);
+
+				for(int i = 0; i < moves.size(); i++) {
+					scores[i] = history.getScore(position.getSideToMove(), moves.get(i));
+				}
+				next = 0;
+				stage = QUIET_MOVES;
+				break;
+			case QUIET_MOVES:
+				int quiet = pickBest();
+
+				if(quiet != Move.NONE) {
+					return quiet;
+				}
+				stage = DONE;
+				break;
+			default:
+				return Move.NONE;
+			}
+		}
+	}
+
+	/**
+	 * Hands out the best scored move left in the list, skipping the moves
+	 * already handed out in an earlier stage
+	 *
+	 * @return The move, or Move.NONE once the list is used up
+	 */
+	private int pickBest() {
+		while(next < moves.size()) {
+			int best = next;
+
+			for(int i = next + 1; i < moves.size(); i++) {
+				if(scores[i] > scores[best]) {
+					best = i;
+				}
+			}
+			int move = moves.get(best);
+			moves.set(best, moves.get(next));
+			moves.set(next, move);
+			scores[best] = scores[next];
+			next++;
+
+			if(move != hashMove && (stage == CAPTURES || (move != firstKiller && move != secondKiller))) {
+				return move;
+			}
+		}
+		return Move.NONE;
+	}
+
+	/**
+	 * @return The MVV-LVA score of a capture or promotion
+	 */
+	private int captureScore(int move) {
+		int victim = Move.flagOf(move) == Move.EN_PASSANT ? Position.PAWN : position.getPiece(Move.toOf(move));
+		int score = victim == Position.EMPTY ? 0 : (Position.typeOf(victim) + 1) * 8;
+		score -= Position.typeOf(position.getPiece(Move.fromOf(move)));
+
+		if(Move.flagOf(move) == Move.PROMOTION) {
+			score += Move.promotionOf(move) == Position.QUEEN ? QUEEN_PROMOTION_BONUS : UNDERPROMOTION_PENALTY;
+		}
+		return score;
+	}
+
+	/**
+	 * @return Whether a killer move would be a quiet move in this position, as quiet moves alone are killers
+	 */
+	private boolean isQuiet(int move) {
+		int flag = Move.flagOf(move);
+		return move != Move.NONE && position.getPiece(Move.toOf(move)) == Position.EMPTY && flag != Move.EN_PASSANT && flag != Move.PROMOTION;
+	}
+
+	private boolean isLegal(int move) {
+		return move != Move.NONE && MoveGenerator.isPseudoLegal(position, move) && MoveGenerator.isLegal(position, move);
+	}
+}
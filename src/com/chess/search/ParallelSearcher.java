@@ -0,0 +1,187 @@
+package com.chess.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.chess.engine.Position;
+import com.chess.evaluation.PawnHashTable;
+import com.chess.tablebase.Tablebase;
+
+/**
+ * Lazy SMP search: the calling thread and a number of helper threads search
+ * the same root position independently, sharing only the transposition table.
+ * Every helper starts at a staggered depth, so the threads drift apart and fill
+ * the table with results the others then cut off on. The calling thread owns
+ * the limits; once it is done the helpers are stopped and the deepest completed
+ * result of all the threads is returned, with the nodes of every thread.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class ParallelSearcher {
+
+	private final TranspositionTable transpositionTable;
+	private final Searcher[] searchers; //The calling thread uses the first one, each helper thread one of the others
+	private final ExecutorService helperThreads;
+
+	/**
+	 * Constructor for ParallelSearcher objects with a transposition table of its own
+	 *
+	 * @param threads	Number of threads searching, including the calling thread
+	 */
+	public ParallelSearcher(int threads) {
+		this(threads, new TranspositionTable(Searcher.DEFAULT_HASH_MEGABYTES));
+	}
+
+	/**
+	 * Constructor for ParallelSearcher objects
+	 *
+	 * @param threads				Number of threads searching, including the calling thread
+	 * @param transpositionTable	Table shared by every thread, kept between searches
+	 */
+	public ParallelSearcher(int threads, TranspositionTable transpositionTable) {
+		if(threads < 1) {
+			throw new IllegalArgumentException("At least one search thread is needed: " + threads);
+		}
+		this.transpositionTable = transpositionTable;
+		this.searchers = new Searcher[threads];
+
+		for(int i = 0; i < threads; i++) {
+			searchers[i] = new Searcher(transpositionTable);
+		}
+		this.helperThreads = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+			private int created;
+
+			@Override
+			public synchronized Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, "Search helper " + (++created));
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Searches for the best move of the side to move within the limits. The
+	 * passed position is left untouched.
+	 *
+	 * @param rootPosition	The position to search
+	 * @param limits		The depth, time and node budget of the calling thread
+	 * @return				The deepest result completed by any thread
+	 */
+	public SearchResult search(final Position rootPosition, SearchLimits limits) {
+		long start = System.nanoTime();
+		final SearchLimits helperLimits = new SearchLimits(limits.getMaxDepth(), 0, 0);
+		List<Future<SearchResult>> helperResults = new ArrayList<Future<SearchResult>>();
+
+		transpositionTable.newSearch();
+
+		for(int i = 1; i < searchers.length; i++) {
+			final Searcher helper = searchers[i];
+			final int firstDepth = 1 + i % 2;
+
+			helper.clearStopRequest();
+			helperResults.add(helperThreads.submit(new Callable<SearchResult>() {
+				@Override
+				public SearchResult call() {
+					return helper.search(rootPosition, helperLimits, firstDepth);
+				}
+			}));
+		}
+		searchers[0].clearStopRequest();
+		SearchResult best = searchers[0].search(rootPosition, limits, 1);
+		long nodes = best.getNodes();
+
+		for(int i = 1; i < searchers.length; i++) {
+			searchers[i].stop();
+		}
+		for(Future<SearchResult> future : helperResults) {
+			SearchResult result = waitFor(future);
+			nodes += result.getNodes();
+
+			//A helper only wins by completing a deeper iteration than the calling thread
+			if(result.getDepth() > best.getDepth() && result.getBestMove() != null) {
+				best = result;
+			}
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1000000;
+		return new SearchResult(best.getBestMove(), best.getScore(), best.getDepth(), nodes, elapsedMillis, best.getPrincipalVariation());
+	}
+
+	/**
+	 * Lets every thread score positions covered by endgame tables exactly
+	 *
+	 * @param tablebase	The tables to look positions up in, null for none
+	 */
+	public void setTablebase(Tablebase tablebase) {
+		for(Searcher searcher : searchers) {
+			searcher.setTablebase(tablebase);
+		}
+	}
+
+	/**
+	 * @return The fraction of the pawn hash probes of every thread that found their entry
+	 */
+	public double getPawnHashHitRate() {
+		long hits = 0;
+		long probes = 0;
+
+		for(Searcher searcher : searchers) {
+			PawnHashTable pawnHashTable = searcher.getEvaluator().getPawnHashTable();
+			hits += pawnHashTable.getHits();
+			probes += pawnHashTable.getHits() + pawnHashTable.getMisses();
+		}
+		return probes == 0 ? 0 : (double) hits / probes;
+	}
+
+	/**
+	 * Stops a running search from another thread
+	 */
+	public void stop() {
+		for(Searcher searcher : searchers) {
+			searcher.stop();
+		}
+	}
+
+	/**
+	 * @return The number of threads searching, including the calling thread
+	 */
+	public int getThreads() {
+		return searchers.length;
+	}
+
+	/**
+	 * Ends the helper threads. The searcher can't be used afterwards.
+	 */
+	public void shutdown() {
+		if(helperThreads != null) {
+			helperThreads.shutdownNow();
+		}
+	}
+
+	private static SearchResult waitFor(Future<SearchResult> future) {
+		boolean interrupted = false;
+
+		try {
+			while(true) {
+				try {
+					return future.get();
+				} catch(InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("Search helper failed", e.getCause());
+		} finally {
+			if(interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.chess.search;
+
+/**
+ * Budget given to a search: the deepest iteration to run, the time it may take
+ * and the number of nodes it may visit. A value of 0 leaves a limit unset.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class SearchLimits {
+
+	private int maxDepth; //Deepest iteration to search
+	private long timeMillis; //Time budget in milliseconds
+	private long maxNodes; //Node budget
+
+	/**
+	 * Constructor for SearchLimits objects
+	 *
+	 * @param maxDepth		Deepest iteration to search, 0 for no limit
+	 * @param timeMillis	Time budget in milliseconds, 0 for no limit
+	 * @param maxNodes		Node budget, 0 for no limit
+	 */
+	public SearchLimits(int maxDepth, long timeMillis, long maxNodes) {
+		this.maxDepth = maxDepth;
+		this.timeMillis = timeMillis;
+		this.maxNodes = maxNodes;
+	}
+
+	/**
+	 * @return Limits searching for the given time only
+	 */
+	public static SearchLimits time(long timeMillis) {
+		return new SearchLimits(0, timeMillis, 0);
+	}
+
+	/**
+	 * @return Limits searching to the given depth only
+	 */
+	public static SearchLimits depth(int maxDepth) {
+		return new SearchLimits(maxDepth, 0, 0);
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public long getTimeMillis() {
+		return timeMillis;
+	}
+
+	public long getMaxNodes() {
+		return maxNodes;
+	}
+}
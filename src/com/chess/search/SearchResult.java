@@ -0,0 +1,70 @@
+package com.chess.search;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.chess.engine.Move;
+
+/**
+ * Outcome of a search: the best move found by the deepest completed
+ * iteration, its score and principal variation, and the effort spent
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class SearchResult {
+
+	private final Move bestMove; //Best move found, null when the side to move has no legal moves
+	private final int score; //Score in centipawns from the side to move's point of view
+	private final int depth; //Deepest completed iteration
+	private final long nodes; //Nodes visited
+	private final long timeMillis; //Time taken in milliseconds
+	private final List<Move> principalVariation; //Expected line of play starting with the best move
+
+	public SearchResult(Move bestMove, int score, int depth, long nodes, long timeMillis, List<Move> principalVariation) {
+		this.bestMove = bestMove;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.timeMillis = timeMillis;
+		this.principalVariation = Collections.unmodifiableList(principalVariation);
+	}
+
+	public Move getBestMove() {
+		return bestMove;
+	}
+
+	public int getScore() {
+		return score;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getTimeMillis() {
+		return timeMillis;
+	}
+
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	/**
+	 * @return Whether the score announces a forced mate for either side
+	 */
+	public boolean isMateScore() {
+		return Math.abs(score) >= Searcher.MATE_SCORE - Searcher.MAX_PLY;
+	}
+
+	@Override
+	public String toString() {
+		long nodesPerSecond = timeMillis == 0 ? nodes * 1000 : nodes * 1000 / timeMillis;
+		return "depth " + depth + " score " + score + " nodes " + nodes + " time " + timeMillis + " ms ("
+				+ nodesPerSecond + " nodes/second) pv " + principalVariation;
+	}
+}
@@ -0,0 +1,418 @@
+package com.chess.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+import com.chess.evaluation.Evaluator;
+import com.chess.tablebase.Tablebase;
+
+/**
+ * Negamax alpha-beta search with iterative deepening over the legal move
+ * generator. Each iteration searches the previous principal variation first,
+ * and the search returns the result of the deepest iteration completed within
+ * the limits. Results are kept in a transposition table so positions reached
+ * again, by transposition or by the next iteration, are cut off or searched
+ * best move first. The other moves are ordered by a MovePicker kept for each
+ * ply: captures by MVV-LVA, then killer moves, then quiet moves by history
+ * score, each stage generated only when reached. Moves are handled in their
+ * encoded form, so the search creates no objects per node. A Searcher keeps
+ * per-search state and must only be used by one thread at a time, but several
+ * Searchers may share a transposition table.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Searcher {
+
+	public static final int MAX_PLY = 128;
+	public static final int MATE_SCORE = 100000;
+	public static final int DEFAULT_HASH_MEGABYTES = 16;
+	private static final int INFINITY = 1000000;
+	private static final int FIFTY_MOVE_RULE_PLIES = 100; //Moves by both players without a capture or pawn move drawing the game
+
+	private final TranspositionTable transpositionTable;
+	private final Evaluator evaluator = new Evaluator();
+	private Position position; //Copy of the position being searched
+	private final MoveHistory history = new MoveHistory();
+	private final MovePicker[] movePickers = new MovePicker[MAX_PLY + 1]; //Move picker reused at each ply
+	private final int[][] pvTable = new int[MAX_PLY + 1][MAX_PLY + 1]; //Principal variation found at each ply
+	private final int[] pvLength = new int[MAX_PLY + 1];
+	private final int[] previousPrincipalVariation = new int[MAX_PLY + 1]; //Line of the last completed iteration
+	private int previousPvLength;
+	private final long[] gameHashes = new long[FIFTY_MOVE_RULE_PLIES]; //Hashes of the positions played before the root, the latest first
+	private int gameHashCount; //Positions before the root that can still come back
+
+	private long nodes;
+	private long deadline; //System.nanoTime() value at which the search stops, 0 for none
+	private long maxNodes;
+	private boolean aborted;
+	private volatile boolean stopRequested; //Set by another thread to end the search early
+	private Tablebase tablebase; //Scores positions with few pieces exactly, null for none
+
+	/**
+	 * Constructor for Searcher objects with a transposition table of its own
+	 */
+	public Searcher() {
+		this(new TranspositionTable(DEFAULT_HASH_MEGABYTES));
+	}
+
+	/**
+	 * Constructor for Searcher objects
+	 *
+	 * @param transpositionTable	Table to keep search results in, kept between searches
+	 */
+	public Searcher(TranspositionTable transpositionTable) {
+		this.transpositionTable = transpositionTable;
+
+		for(int ply = 0; ply < movePickers.length; ply++) {
+			movePickers[ply] = new MovePicker(history);
+		}
+	}
+
+	/**
+	 * Searches for the best move of the side to move within the limits. The
+	 * passed position is left untouched.
+	 *
+	 * @param rootPosition	The position to search
+	 * @param limits		The depth, time and node budget
+	 * @return				The result of the deepest completed iteration
+	 */
+	public SearchResult search(Position rootPosition, SearchLimits limits) {
+		stopRequested = false;
+		transpositionTable.newSearch();
+		return search(rootPosition, limits, 1);
+	}
+
+	/**
+	 * Lets the search score positions covered by endgame tables exactly
+	 * instead of searching them. Must be called before searching, on the
+	 * thread that hands out the searches, not while one is running.
+	 *
+	 * @param tablebase	The tables to look positions up in, null for none
+	 */
+	public void setTablebase(Tablebase tablebase) {
+		this.tablebase = tablebase;
+	}
+
+	/**
+	 * @return The evaluator of this searcher, whose pawn hash table keeps its entries between searches
+	 */
+	public Evaluator getEvaluator() {
+		return evaluator;
+	}
+
+	/**
+	 * Asks a running search to stop, making it return the result of the
+	 * deepest iteration completed so far
+	 */
+	public void stop() {
+		stopRequested = true;
+	}
+
+	/**
+	 * Clears a stop request left over from a previous search
+	 */
+	void clearStopRequest() {
+		stopRequested = false;
+	}
+
+	/**
+	 * Runs the iterative deepening loop without starting a new search in the
+	 * transposition table, so several searchers can share one search
+	 *
+	 * @param rootPosition	The position to search
+	 * @param limits		The depth, time and node budget
+	 * @param firstDepth	Depth of the first iteration
+	 * @return				The result of the deepest completed iteration
+	 */
+	SearchResult search(Position rootPosition, SearchLimits limits, int firstDepth) {
+		long start = System.nanoTime();
+		int maxDepth = limits.getMaxDepth() > 0 ? Math.min(limits.getMaxDepth(), MAX_PLY) : MAX_PLY;
+
+		position = rootPosition.copy();
+		gameHashCount = Math.min(gameHashes.length, Math.min(rootPosition.getHistorySize(), rootPosition.getHalfmoveClock()));
+
+		for(int i = 0; i < gameHashCount; i++) {
+			gameHashes[i] = rootPosition.getHashBefore(i + 1);
+		}
+		nodes = 0;
+		maxNodes = limits.getMaxNodes();
+		deadline = limits.getTimeMillis() > 0 ? start + limits.getTimeMillis() * 1000000 : 0;
+		aborted = false;
+		previousPvLength = 0;
+		history.newSearch();
+
+		int bestMove = Move.NONE;
+		int bestScore = 0;
+		int completedDepth = 0;
+		MoveList rootMoves = MoveGenerator.generateLegalMoves(position, new MoveList());
+
+		if(rootMoves.isEmpty()) {
+			return new SearchResult(null, MoveGenerator.isInCheck(position) ? -MATE_SCORE : 0, 0, 0, 0, new ArrayList<Move>());
+		}
+
+		for(int depth = Math.min(firstDepth, maxDepth); depth <= maxDepth; depth++) {
+			int score = alphaBeta(depth, -INFINITY, INFINITY, 0);
+
+			//Keep the previous iteration when this one was cut short, unless none has completed yet
+			if(aborted && bestMove != Move.NONE) {
+				break;
+			}
+			if(pvLength[0] > 0) {
+				bestMove = pvTable[0][0];
+				bestScore = score;
+				completedDepth = depth;
+				previousPvLength = pvLength[0];
+				System.arraycopy(pvTable[0], 0, previousPrincipalVariation, 0, previousPvLength);
+			}
+			if(aborted || Math.abs(score) >= MATE_SCORE - MAX_PLY) {
+				break;
+			}
+
+			//Avoid starting an iteration that is unlikely to finish within the time budget
+			if(deadline != 0 && System.nanoTime() - start > (deadline - start) / 2) {
+				break;
+			}
+		}
+		if(bestMove == Move.NONE) {
+			bestMove = rootMoves.get(0);
+		}
+		List<Move> principalVariation = new ArrayList<Move>();
+
+		for(int i = 0; i < previousPvLength; i++) {
+			principalVariation.add(Move.decode(previousPrincipalVariation[i]));
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1000000;
+		return new SearchResult(Move.decode(bestMove), bestScore, completedDepth, nodes, elapsedMillis, principalVariation);
+	}
+
+	private int alphaBeta(int depth, int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+
+		if(depth <= 0 || ply >= MAX_PLY) {
+			return quiescence(alpha, beta, ply);
+		}
+		nodes++;
+
+		if(isOutOfBudget()) {
+			return 0;
+		}
+
+		//The root always searches so that it has a move to return
+		if(ply > 0 && isDraw(ply)) {
+			return 0;
+		}
+		if(ply > 0 && tablebase != null && Long.bitCount(position.getOccupied()) <= Tablebase.MAX_PIECES) {
+			int result = tablebase.probe(position);
+
+			if(result != Tablebase.UNKNOWN) {
+				return scoreOfTablebaseResult(result, ply);
+			}
+		}
+		long hash = position.getHash();
+		long entry = transpositionTable.probe(hash);
+		int hashMove = Move.NONE;
+
+		if(entry != TranspositionTable.NO_ENTRY) {
+			hashMove = TranspositionTable.moveOf(entry);
+
+			//The root always searches so that it has a move to return
+			if(ply > 0 && TranspositionTable.depthOf(entry) >= depth) {
+				int score = scoreFromTable(TranspositionTable.scoreOf(entry), ply);
+				int bound = TranspositionTable.boundOf(entry);
+
+				if(bound == TranspositionTable.EXACT
+						|| (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+						|| (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+		//The move stored for the position goes first, or else the move of the previous principal variation
+		if(hashMove == Move.NONE && ply < previousPvLength) {
+			hashMove = previousPrincipalVariation[ply];
+		}
+		MovePicker picker = movePickers[ply];
+		picker.reset(position, hashMove, ply);
+
+		int originalAlpha = alpha;
+		int bestMove = Move.NONE;
+		int legalMoves = 0;
+
+		for(int move = picker.next(); move != Move.NONE; move = picker.next()) {
+			boolean quiet = position.getPiece(Move.toOf(move)) == Position.EMPTY
+					&& Move.flagOf(move) != Move.EN_PASSANT && Move.flagOf(move) != Move.PROMOTION;
+			legalMoves++;
+
+			position.makeMove(move);
+			int score = -alphaBeta(depth - 1, -beta, -alpha, ply + 1);
+			position.unmakeMove();
+
+			if(aborted) {
+				return 0;
+			}
+			if(score > alpha) {
+				alpha = score;
+				bestMove = move;
+				updatePrincipalVariation(move, ply);
+
+				if(alpha >= beta) {
+					if(quiet) {
+						history.addCutoff(position.getSideToMove(), move, ply, depth);
+					}
+					break;
+				}
+			}
+		}
+		if(legalMoves == 0) {
+			return MoveGenerator.isInCheck(position) ? -MATE_SCORE + ply : 0;
+		}
+		int bound = alpha >= beta ? TranspositionTable.LOWER_BOUND
+				: alpha > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+		transpositionTable.store(hash, bestMove, scoreToTable(alpha, ply), depth, bound);
+		return alpha;
+	}
+
+	/**
+	 * Checks whether the position is drawn by the fifty-move rule or repeats
+	 * one reached earlier in the search or in the game played before the root.
+	 * A single repetition is scored as a draw, as the side that could avoid it
+	 * would have no reason to play into it.
+	 *
+	 * @param ply	Number of moves made since the root
+	 */
+	private boolean isDraw(int ply) {
+		int halfmoveClock = position.getHalfmoveClock();
+
+		if(halfmoveClock >= FIFTY_MOVE_RULE_PLIES || position.countRepetitions() > 0) {
+			return true;
+		}
+
+		//Positions before the root with the same side to move, as far back as the last capture or pawn move
+		for(int back = ply % 2 == 0 ? 2 : 1; back <= gameHashCount && ply + back <= halfmoveClock; back += 2) {
+			if(gameHashes[back - 1] == position.getHash()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The score of a tablebase result, as a mate score when one side can force checkmate
+	 */
+	private static int scoreOfTablebaseResult(int result, int ply) {
+		if(Tablebase.isWin(result)) {
+			return MATE_SCORE - ply - Tablebase.distanceToMate(result);
+		}
+		if(Tablebase.isLoss(result)) {
+			return -MATE_SCORE + ply + Tablebase.distanceToMate(result);
+		}
+		return 0;
+	}
+
+	/**
+	 * Mate scores are stored relative to the position rather than the root, so
+	 * they stay correct when the position is reached at another ply
+	 */
+	private static int scoreToTable(int score, int ply) {
+		if(score >= MATE_SCORE - MAX_PLY) {
+			return score + ply;
+		}
+		if(score <= -MATE_SCORE + MAX_PLY) {
+			return score - ply;
+		}
+		return score;
+	}
+
+	private static int scoreFromTable(int score, int ply) {
+		if(score >= MATE_SCORE - MAX_PLY) {
+			return score - ply;
+		}
+		if(score <= -MATE_SCORE + MAX_PLY) {
+			return score + ply;
+		}
+		return score;
+	}
+
+	/**
+	 * Searches captures and promotions only until the position is quiet, so the
+	 * evaluation isn't taken in the middle of an exchange. A side in check
+	 * can't stand pat, so every evasion is searched and no evasion is mate.
+	 */
+	private int quiescence(int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+		nodes++;
+
+		if(isOutOfBudget()) {
+			return 0;
+		}
+		if(ply >= MAX_PLY) {
+			return evaluator.evaluate(position);
+		}
+		MovePicker picker = movePickers[ply];
+		boolean inCheck = MoveGenerator.isInCheck(position);
+
+		if(inCheck) {
+			picker.reset(position, Move.NONE, ply);
+		}
+		else {
+			int standPat = evaluator.evaluate(position);
+
+			if(standPat >= beta) {
+				return standPat;
+			}
+			if(standPat > alpha) {
+				alpha = standPat;
+			}
+			picker.resetForCaptures(position);
+		}
+		int legalMoves = 0;
+
+		for(int move = picker.next(); move != Move.NONE; move = picker.next()) {
+			legalMoves++;
+			position.makeMove(move);
+			int score = -quiescence(-beta, -alpha, ply + 1);
+			position.unmakeMove();
+
+			if(aborted) {
+				return 0;
+			}
+			if(score > alpha) {
+				alpha = score;
+
+				if(alpha >= beta) {
+					break;
+				}
+			}
+		}
+		if(inCheck && legalMoves == 0) {
+			return -MATE_SCORE + ply;
+		}
+		return alpha;
+	}
+
+	/**
+	 * Checks the node and time budgets and stop requests, reading the clock and
+	 * the stop flag only every thousand nodes
+	 */
+	private boolean isOutOfBudget() {
+		if(!aborted && ((maxNodes > 0 && nodes >= maxNodes)
+				|| ((nodes & 1023) == 0 && (stopRequested || (deadline != 0 && System.nanoTime() >= deadline))))) {
+			aborted = true;
+		}
+		return aborted;
+	}
+
+	private void updatePrincipalVariation(int move, int ply) {
+		pvTable[ply][ply] = move;
+
+		for(int i = ply + 1; i < pvLength[ply + 1]; i++) {
+			pvTable[ply][i] = pvTable[ply + 1][i];
+		}
+		pvLength[ply] = Math.max(pvLength[ply + 1], ply + 1);
+	}
+}
@@ -0,0 +1,139 @@
+package com.chess.search;
+
+import java.util.Arrays;
+
+import com.chess.engine.Move;
+
+/**
+ * Fixed-size table of search results indexed by position hash. Entries live
+ * in two primitive long arrays, a power of two in length, so a large table
+ * adds no objects for the garbage collector to trace.
+ *
+ * The table is lock-free: each entry stores its data alongside the position
+ * hash exclusive-or'd with that data. A reader only accepts an entry whose key
+ * and data combine back into the hash it probed, so an entry torn by two
+ * threads writing at once is simply treated as a miss. An entry is replaced
+ * when the new result searched at least as deep, or when the existing one was
+ * stored by an earlier search.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class TranspositionTable {
+
+	public static final int EXACT = 1; //The score is exact
+	public static final int LOWER_BOUND = 2; //The score failed high, the real score is at least this
+	public static final int UPPER_BOUND = 3; //The score failed low, the real score is at most this
+
+	public static final long NO_ENTRY = 0;
+
+	private static final int ENTRY_BYTES = 16;
+
+	private final long[] keys; //Position hash exclusive-or'd with the entry data
+	private final long[] data; //Encoded move, depth, bound, age and score
+	private final int mask;
+	private volatile int age; //Incremented by each new search, wrapping within 6 bits
+
+	/**
+	 * Constructor for TranspositionTable objects
+	 *
+	 * @param megabytes	Memory to use, rounded down to a power of two number of entries
+	 */
+	public TranspositionTable(int megabytes) {
+		long entries = Long.highestOneBit(Math.max(1, (long) megabytes * 1024 * 1024 / ENTRY_BYTES));
+		entries = Math.min(entries, 1L << 30);
+
+		this.keys = new long[(int) entries];
+		this.data = new long[(int) entries];
+		this.mask = (int) entries - 1;
+	}
+
+	/**
+	 * Marks the start of a new search, letting its results replace older ones
+	 */
+	public void newSearch() {
+		age = (age + 1) & 63;
+	}
+
+	/**
+	 * Removes every entry
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(data, 0);
+	}
+
+	/**
+	 * Looks up the entry stored for a position
+	 *
+	 * @param hash	Hash of the position
+	 * @return		The packed entry, or NO_ENTRY
+	 */
+	public long probe(long hash) {
+		int index = (int) hash & mask;
+		long entry = data[index];
+
+		if((keys[index] ^ entry) != hash) {
+			return NO_ENTRY;
+		}
+		return entry;
+	}
+
+	/**
+	 * Stores a search result for a position
+	 *
+	 * @param hash	Hash of the position
+	 * @param move	Encoded best move, Move.NONE when none is known
+	 * @param score	Score of the position
+	 * @param depth	Depth the position was searched to
+	 * @param bound	EXACT, LOWER_BOUND or UPPER_BOUND
+	 */
+	public void store(long hash, int move, int score, int depth, int bound) {
+		int index = (int) hash & mask;
+		long oldEntry = data[index];
+		boolean samePosition = (keys[index] ^ oldEntry) == hash;
+		int currentAge = age;
+
+		if(oldEntry == NO_ENTRY || samePosition || ageOf(oldEntry) != currentAge || depth >= depthOf(oldEntry)) {
+			//Keep the move already known for the position when the new result has none
+			if(samePosition && move == Move.NONE) {
+				move = moveOf(oldEntry);
+			}
+			long entry = (move & 0xFFFFL)
+					| ((long) Math.max(0, Math.min(depth, 255)) << 16)
+					| ((long) bound << 24)
+					| ((long) currentAge << 26)
+					| ((long) score << 32);
+
+			data[index] = entry;
+			keys[index] = hash ^ entry;
+		}
+	}
+
+	/**
+	 * @return The number of entries the table holds
+	 */
+	public int capacity() {
+		return data.length;
+	}
+
+	public static int moveOf(long entry) {
+		return (int) (entry & 0xFFFF);
+	}
+
+	public static int depthOf(long entry) {
+		return (int) ((entry >>> 16) & 0xFF);
+	}
+
+	public static int boundOf(long entry) {
+		return (int) ((entry >>> 24) & 0x3);
+	}
+
+	public static int scoreOf(long entry) {
+		return (int) (entry >> 32);
+	}
+
+	private static int ageOf(long entry) {
+		return (int) ((entry >>> 26) & 0x3F);
+	}
+}
@@ -0,0 +1,237 @@
+package com.chess.tablebase;
+
+import com.chess.engine.Position;
+
+/**
+ * A set of pieces a table is built for, named by the pieces of each side
+ * such as "KQK" or "KRKP", the stronger side first and playing White. Every
+ * piece has a slot: the White King, the Black King, then the other pieces in
+ * the order of the name. A position is indexed by the side to move and the
+ * square of every slot. Left-right mirrored positions have the same value, so
+ * only those with the White King on files a to d are indexed.
+ *
+ * Date: 10/17/2026
+ *
+ */
+final class Material {
+
+	private static final String PIECE_LETTERS = "PNBRQK"; //Letter of every piece type
+	private static final String LETTER_ORDER = "KQRBNP"; //Order of the pieces in a name
+
+	private final String name;
+	private final int[] colors; //Color of the piece in every slot
+	private final int[] types; //Type of the piece in every slot
+	private final int size; //Number of indexes
+
+	private Material(String name, int[] colors, int[] types) {
+		this.name = name;
+		this.colors = colors;
+		this.types = types;
+		this.size = 2 * 32 << (6 * (colors.length - 1));
+	}
+
+	/**
+	 * Reads the name of a set of pieces, which must have the stronger side first
+	 *
+	 * @param name	The name to read, such as "KQKR"
+	 * @return		The set of pieces
+	 */
+	static Material parse(String name) {
+		int blackKing = name.indexOf('K', 1);
+
+		if(!name.startsWith("K") || blackKing < 0 || name.length() > Tablebase.MAX_PIECES || !name.equals(canonicalName(name))) {
+			throw new IllegalArgumentException("Invalid tablebase material: " + name);
+		}
+		int[] colors = new int[name.length()];
+		int[] types = new int[name.length()];
+		int slot = 0;
+
+		colors[slot] = Position.WHITE;
+		types[slot++] = Position.KING;
+		colors[slot] = Position.BLACK;
+		types[slot++] = Position.KING;
+
+		for(int i = 1; i < name.length(); i++) {
+			int type = PIECE_LETTERS.indexOf(name.charAt(i));
+
+			if(type < 0 || (type == Position.KING) != (i == blackKing)) {
+				throw new IllegalArgumentException("Invalid tablebase material: " + name);
+			}
+			if(type != Position.KING) {
+				colors[slot] = i < blackKing ? Position.WHITE : Position.BLACK;
+				types[slot++] = type;
+			}
+		}
+		return new Material(name, colors, types);
+	}
+
+	/**
+	 * @return The name of the pieces of a position, White's first
+	 */
+	static String nameOf(Position position) {
+		StringBuilder name = new StringBuilder(8);
+
+		for(int color = Position.WHITE; color <= Position.BLACK; color++) {
+			for(int i = 0; i < LETTER_ORDER.length(); i++) {
+				int type = PIECE_LETTERS.indexOf(LETTER_ORDER.charAt(i));
+
+				for(int count = Long.bitCount(position.getPieceBitboard(color, type)); count > 0; count--) {
+					name.append(LETTER_ORDER.charAt(i));
+				}
+			}
+		}
+		return name.toString();
+	}
+
+	/**
+	 * @return The name with its sides swapped when Black's side is the stronger
+	 */
+	static String canonicalName(String name) {
+		int blackKing = name.indexOf('K', 1);
+		String white = name.substring(0, blackKing);
+		String black = name.substring(blackKing);
+		return isStronger(black, white) ? black + white : name;
+	}
+
+	/**
+	 * @return Whether a side with more pieces, or with stronger pieces first, comes first
+	 */
+	private static boolean isStronger(String side, String other) {
+		if(side.length() != other.length()) {
+			return side.length() > other.length();
+		}
+		for(int i = 0; i < side.length(); i++) {
+			int difference = LETTER_ORDER.indexOf(side.charAt(i)) - LETTER_ORDER.indexOf(other.charAt(i));
+
+			if(difference != 0) {
+				return difference < 0;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return Whether no position of the pieces can end in checkmate, so no table is needed
+	 */
+	static boolean isDrawn(String name) {
+		return name.equals("KK") || name.equals("KBK") || name.equals("KNK");
+	}
+
+	String getName() {
+		return name;
+	}
+
+	int getPieces() {
+		return colors.length;
+	}
+
+	int getColor(int slot) {
+		return colors[slot];
+	}
+
+	int getType(int slot) {
+		return types[slot];
+	}
+
+	int getSize() {
+		return size;
+	}
+
+	/**
+	 * Brings the squares to the indexed form: mirrored so the White King is on
+	 * files a to d, and pieces of the same kind in ascending square order
+	 *
+	 * @param squares	Square of every slot, changed in place
+	 */
+	void normalize(int[] squares) {
+		if(Position.column(squares[0]) > 3) {
+			for(int slot = 0; slot < squares.length; slot++) {
+				squares[slot] ^= 7;
+			}
+		}
+		for(int slot = 3; slot < squares.length; slot++) {
+			for(int other = slot; other > 2 && isSameKind(other, other - 1) && squares[other] < squares[other - 1]; other--) {
+				int square = squares[other];
+				squares[other] = squares[other - 1];
+				squares[other - 1] = square;
+			}
+		}
+	}
+
+	/**
+	 * Finds the index of a position holding these pieces
+	 *
+	 * @param position	The position to index
+	 * @param swapped	Whether the position holds the pieces with the sides swapped, to be turned upside down
+	 * @param squares	The array for storing the square of every slot
+	 * @return			The index of the position
+	 */
+	int index(Position position, boolean swapped, int[] squares) {
+		int flip = swapped ? 56 : 0; //Turning the board upside down keeps the pawns' direction
+		int slot = 0;
+
+		while(slot < squares.length) {
+			long pieces = position.getPieceBitboard(colors[slot] ^ (swapped ? 1 : 0), types[slot]);
+
+			//Pieces of the same kind take consecutive slots
+			while(pieces != 0) {
+				squares[slot++] = Long.numberOfTrailingZeros(pieces) ^ flip;
+				pieces &= pieces - 1;
+			}
+		}
+		normalize(squares);
+		return index(position.getSideToMove() ^ (swapped ? 1 : 0), squares);
+	}
+
+	/**
+	 * @param sideToMove	The player to move
+	 * @param squares		Normalized square of every slot
+	 * @return				The index of the position
+	 */
+	int index(int sideToMove, int[] squares) {
+		int index = sideToMove * 32 + Position.row(squares[0]) * 4 + Position.column(squares[0]);
+
+		for(int slot = 1; slot < squares.length; slot++) {
+			index = (index << 6) | squares[slot];
+		}
+		return index;
+	}
+
+	/**
+	 * @param index		An index of the table
+	 * @param squares	The array for storing the square of every slot
+	 * @return			The player to move
+	 */
+	int decode(int index, int[] squares) {
+		for(int slot = squares.length - 1; slot > 0; slot--) {
+			squares[slot] = index & 63;
+			index >>>= 6;
+		}
+		squares[0] = Position.square((index & 31) >>> 2, index & 3);
+		return index >>> 5;
+	}
+
+	/**
+	 * @return Whether the squares are distinct, with pieces of the same kind in ascending order
+	 */
+	boolean isNormalized(int[] squares) {
+		long occupied = 0;
+
+		for(int slot = 0; slot < squares.length; slot++) {
+			if((occupied & (1L << squares[slot])) != 0 || (slot > 2 && isSameKind(slot, slot - 1) && squares[slot] < squares[slot - 1])) {
+				return false;
+			}
+			occupied |= 1L << squares[slot];
+		}
+		return true;
+	}
+
+	private boolean isSameKind(int slot, int other) {
+		return colors[slot] == colors[other] && types[slot] == types[other];
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -0,0 +1,265 @@
+package com.chess.tablebase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.chess.engine.Attacks;
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.Position;
+
+/**
+ * Endgame tables giving the exact outcome of positions with few pieces and
+ * how many plies the winner needs to checkmate. Each table holds one byte
+ * per position of a set of pieces, read from a memory-mapped file named
+ * after the set, such as "KQK.tb". The fifty-move rule and repetitions are
+ * ignored, and positions with castling rights aren't looked up. The tables
+ * leave out the En Passant square, so the En Passant captures of a position
+ * are looked up in the tables they lead to.
+ *
+ * A probe result is one of:
+ *
+ *   UNKNOWN	no table covers the position
+ *   DRAW		neither side can force checkmate
+ *   1 + N		the side to move is checkmated in N plies when N is even, or checkmates in N plies when N is odd
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Tablebase {
+
+	public static final int MAX_PIECES = 4; //Most pieces of any table, Kings included
+	public static final int UNKNOWN = -1;
+	public static final int DRAW = 0;
+
+	static final int INVALID = 0xFF; //Stored for indexes that aren't legal positions
+	static final int NO_CAPTURE = -2; //Result of En Passant lookups when no capture is legal
+	static final long MAGIC = 0x4348455353544231L; //"CHESSTB1"
+	static final int HEADER_BYTES = 16;
+	static final String FILE_EXTENSION = ".tb";
+
+	private final Map<String, ByteBuffer> tables = new HashMap<String, ByteBuffer>(); //Values of every table, by material name
+	private final Map<String, Material> materials = new HashMap<String, Material>();
+
+	/**
+	 * Maps every table file of a directory
+	 *
+	 * @param directory	The directory holding the table files
+	 * @return			The tables found
+	 * @throws IOException	If a table file can't be read
+	 */
+	public static Tablebase open(Path directory) throws IOException {
+		Tablebase tablebase = new Tablebase();
+		DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION);
+
+		try {
+			for(Path file : files) {
+				String name = file.getFileName().toString();
+				tablebase.addTable(Material.parse(name.substring(0, name.length() - FILE_EXTENSION.length())), map(file));
+			}
+		} finally {
+			files.close();
+		}
+		return tablebase;
+	}
+
+	/**
+	 * Maps a table file, checking its header
+	 *
+	 * @return The values of the table, following the header
+	 */
+	private static ByteBuffer map(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+		try {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.BIG_ENDIAN);
+
+			if(buffer.capacity() < HEADER_BYTES || buffer.getLong(0) != MAGIC || buffer.getLong(8) != buffer.capacity() - HEADER_BYTES) {
+				throw new IOException("Not a tablebase file: " + file);
+			}
+			buffer.position(HEADER_BYTES);
+			return buffer.slice();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Adds the values of a table, replacing any table of the same pieces
+	 */
+	synchronized void addTable(Material material, ByteBuffer values) {
+		if(values.capacity() != material.getSize()) {
+			throw new IllegalArgumentException("Table " + material + " should have " + material.getSize() + " values: " + values.capacity());
+		}
+		tables.put(material.getName(), values);
+		materials.put(material.getName(), material);
+	}
+
+	/**
+	 * @param material	Name of a set of pieces, such as "KRK"
+	 * @return			Whether the tablebase has the table of the pieces, or needs none for them
+	 */
+	public synchronized boolean hasTable(String material) {
+		return Material.isDrawn(material) || tables.containsKey(material);
+	}
+
+	/**
+	 * @return The names of the tables held
+	 */
+	public synchronized Set<String> getTables() {
+		return new TreeSet<String>(tables.keySet());
+	}
+
+	/**
+	 * Looks up the outcome of a position
+	 *
+	 * @param position	The position to look up
+	 * @return			UNKNOWN, DRAW, or 1 plus the plies to checkmate
+	 */
+	public int probe(Position position) {
+		if(Long.bitCount(position.getOccupied()) > MAX_PIECES || position.getCastlingRights() != 0) {
+			return UNKNOWN;
+		}
+		int enPassantSquare = position.getEnPassantSquare();
+
+		if(enPassantSquare != Position.NO_SQUARE) {
+			int capture = probeEnPassant(position);
+
+			position.setEnPassantSquare(Position.NO_SQUARE);
+			int result = probe(position);
+			position.setEnPassantSquare(enPassantSquare);
+
+			if(result == UNKNOWN || capture == UNKNOWN) {
+				return UNKNOWN;
+			}
+			return capture == NO_CAPTURE ? result : better(result, capture);
+		}
+		String name = Material.nameOf(position);
+		String canonicalName = Material.canonicalName(name);
+
+		if(Material.isDrawn(canonicalName)) {
+			return DRAW;
+		}
+		ByteBuffer values;
+		Material material;
+
+		synchronized(this) {
+			values = tables.get(canonicalName);
+			material = materials.get(canonicalName);
+		}
+		if(values == null) {
+			return UNKNOWN;
+		}
+
+		int index = material.index(position, !name.equals(canonicalName), new int[material.getPieces()]);
+		int value = values.get(index) & 0xFF;
+		return value == INVALID ? UNKNOWN : value;
+	}
+
+	/**
+	 * Looks up the outcome of the En Passant captures of a position
+	 *
+	 * @param position	The position to look up, with an En Passant square
+	 * @return			The best result of a capture for the side to move, UNKNOWN if a table is missing, or NO_CAPTURE
+	 */
+	int probeEnPassant(Position position) {
+		int us = position.getSideToMove();
+		int enPassantSquare = position.getEnPassantSquare();
+		long attackers = Attacks.pawnAttacks(us ^ 1, enPassantSquare) & position.getPieceBitboard(us, Position.PAWN);
+		int best = NO_CAPTURE;
+
+		while(attackers != 0) {
+			int move = Move.encode(Long.numberOfTrailingZeros(attackers), enPassantSquare, Move.EN_PASSANT);
+			attackers &= attackers - 1;
+
+			if(!MoveGenerator.isLegal(position, move)) {
+				continue;
+			}
+			position.makeMove(move);
+			int result = probe(position);
+			position.unmakeMove();
+
+			if(result == UNKNOWN) {
+				return UNKNOWN;
+			}
+			best = best == NO_CAPTURE ? before(result) : better(best, before(result));
+		}
+		return best;
+	}
+
+	/**
+	 * @param result	A probe result other than UNKNOWN
+	 * @return			The result for the player who moved into the position
+	 */
+	static int before(int result) {
+		return result == DRAW ? DRAW : result + 1;
+	}
+
+	/**
+	 * @return The better of two results for the same player, wins ranked by speed and losses by length
+	 */
+	static int better(int result, int other) {
+		return rank(result) >= rank(other) ? result : other;
+	}
+
+	private static int rank(int result) {
+		if(isWin(result)) {
+			return 1000 - distanceToMate(result);
+		}
+		return isLoss(result) ? distanceToMate(result) - 1000 : 0;
+	}
+
+	/**
+	 * @param result	A probe result
+	 * @return			Whether the side to move can force checkmate
+	 */
+	public static boolean isWin(int result) {
+		return result > 0 && (result - 1) % 2 == 1;
+	}
+
+	/**
+	 * @param result	A probe result
+	 * @return			Whether the side to move is checkmated against any defense
+	 */
+	public static boolean isLoss(int result) {
+		return result > 0 && (result - 1) % 2 == 0;
+	}
+
+	/**
+	 * @param result	A probe result of a won or lost position
+	 * @return			Number of plies to checkmate with best play by both sides
+	 */
+	public static int distanceToMate(int result) {
+		return result - 1;
+	}
+
+	/**
+	 * Settles a game from its position when a table covers it
+	 *
+	 * @param position	The position to settle
+	 * @return			"1-0", "0-1" or "1/2-1/2", or null if no table covers the position
+	 */
+	public String adjudicate(Position position) {
+		int result = probe(position);
+
+		if(result == UNKNOWN) {
+			return null;
+		}
+		if(result == DRAW) {
+			return "1/2-1/2";
+		}
+		return isWin(result) == (position.getSideToMove() == Position.WHITE) ? "1-0" : "0-1";
+	}
+}
@@ -0,0 +1,541 @@
+package com.chess.tablebase;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.chess.engine.Attacks;
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+
+/**
+ * Builds endgame tables by retrograde analysis. Every position of a set of
+ * pieces is first set up once: checkmates are lost in 0 plies, stalemates
+ * are drawn, moves that capture or promote are looked up in the tables of
+ * the pieces they lead to, and the other legal moves are counted. Then, one
+ * ply at a time, the positions decided at that ply are taken back a move:
+ * a position with a move into a lost position is won, and a position whose
+ * every move leads to a won one is lost. What is never decided is a draw.
+ * A double pawn push allowing En Passant leads to a position the table
+ * doesn't hold, worth the better of the position without the En Passant
+ * square and the captures, so such pushes are decided or counted down at the
+ * distance the two combine to.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class TablebaseGenerator {
+
+	private static final int MAX_DISTANCE = 253; //Longest distance to mate a table value can hold
+	private static final int ESCAPE = 0x80; //Move count flag of positions with a move that isn't lost, so they can't be lost
+	private static final String PIECE_ORDER = "QRBNP"; //Order of the pieces besides the King in a name
+	private static final String PROMOTION_LETTERS = "QRBN";
+	private static final int RESOLVED = -3; //En Passant edge already counted down
+
+	private final Tablebase tablebase;
+	private final Path directory; //Where generated tables are written, null to keep them in memory only
+
+	private final Position position = new Position();
+	private final MoveList moves = new MoveList();
+
+	private final Map<Long, Integer> enPassantEdges = new HashMap<Long, Integer>(); //Result of the En Passant captures after a double pawn push, by the indexes of the positions reached and left
+	private final Map<Integer, List<Long>> lateEdges = new HashMap<Integer, List<Long>>(); //Double pawn pushes met by a winning En Passant capture, by the distance it wins at
+	private final Map<Integer, List<Integer>> lateWins = new HashMap<Integer, List<Integer>>(); //Positions won by a double pawn push once the En Passant capture is lost, by distance
+
+	/**
+	 * Constructor for TablebaseGenerator objects
+	 *
+	 * @param tablebase	The tables to look captures and promotions up in, which receives every table generated
+	 * @param directory	Where generated tables are written, null to keep them in memory only
+	 */
+	public TablebaseGenerator(Tablebase tablebase, Path directory) {
+		this.tablebase = tablebase;
+		this.directory = directory;
+	}
+
+	/**
+	 * @param maxPieces	Most pieces of a set, Kings included
+	 * @return			The name of every set of pieces needing a table, each after the sets it depends on
+	 */
+	public static List<String> materials(int maxPieces) {
+		List<String> names = new ArrayList<String>();
+
+		for(int pieces = 3; pieces <= Math.min(maxPieces, Tablebase.MAX_PIECES); pieces++) {
+			//Promoting turns a pawn into another piece, so sets with fewer pawns come first
+			for(int pawns = 0; pawns <= pieces - 2; pawns++) {
+				for(int whitePieces = 0; whitePieces <= pieces - 2; whitePieces++) {
+					for(String white : sides(whitePieces)) {
+						for(String black : sides(pieces - 2 - whitePieces)) {
+							String name = Material.canonicalName(white + black);
+
+							if(name.length() - name.replace("P", "").length() == pawns && !Material.isDrawn(name) && !names.contains(name)) {
+								names.add(name);
+							}
+						}
+					}
+				}
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * @return Every side of a King and the given number of other pieces, named in order
+	 */
+	private static List<String> sides(int pieces) {
+		List<String> sides = new ArrayList<String>();
+
+		if(pieces == 0) {
+			sides.add("K");
+			return sides;
+		}
+		for(String side : sides(pieces - 1)) {
+			char last = side.charAt(side.length() - 1);
+
+			for(int i = last == 'K' ? 0 : PIECE_ORDER.indexOf(last); i < PIECE_ORDER.length(); i++) {
+				sides.add(side + PIECE_ORDER.charAt(i));
+			}
+		}
+		return sides;
+	}
+
+	/**
+	 * Generates the table of a set of pieces, first generating the missing
+	 * tables of the sets its captures and promotions lead to
+	 *
+	 * @param name	Name of the set of pieces, such as "KRK"
+	 * @return		The values of the table
+	 * @throws IOException	If a table can't be written
+	 */
+	public byte[] generate(String name) throws IOException {
+		Material material = Material.parse(name);
+
+		for(String dependency : dependencies(name)) {
+			if(!tablebase.hasTable(dependency)) {
+				generate(dependency);
+			}
+		}
+		enPassantEdges.clear();
+		lateEdges.clear();
+		lateWins.clear();
+
+		byte[] values = new byte[material.getSize()];
+		byte[] moveCounts = new byte[material.getSize()];
+		byte[] conversions = new byte[material.getSize()]; //Distance of the fastest conversion win of positions that can't be lost, or the longest conversion loss of the others
+		int highest = initialize(material, values, moveCounts, conversions);
+
+		int[] squares = new int[material.getPieces()];
+		int[] previous = new int[material.getPieces()];
+
+		for(int distance = 0; distance <= highest; distance++) {
+			highest = Math.max(highest, resolveEnPassant(values, moveCounts, conversions, distance));
+
+			for(int index = 0; index < values.length; index++) {
+				int value = values[index] & 0xFF;
+
+				//A conversion win is only taken when no faster win was found
+				if(value == 0 && (moveCounts[index] & ESCAPE) != 0 && (conversions[index] & 0xFF) == distance + 1) {
+					values[index] = (byte) (distance + 1);
+					value = distance + 1;
+				}
+				if(value != distance + 1) {
+					continue;
+				}
+				int sideToMove = material.decode(index, squares);
+				highest = Math.max(highest, retract(material, values, moveCounts, conversions, index, squares, previous, sideToMove ^ 1, distance));
+			}
+		}
+		addTable(material, values);
+		return values;
+	}
+
+	/**
+	 * Sets up every position of the table, deciding checkmates, stalemates,
+	 * and positions whose every move captures or promotes
+	 *
+	 * @return The longest distance to mate decided so far
+	 */
+	private int initialize(Material material, byte[] values, byte[] moveCounts, byte[] conversions) {
+		int[] squares = new int[material.getPieces()];
+		int[] reached = new int[material.getPieces()];
+		int highest = 0;
+
+		for(int index = 0; index < values.length; index++) {
+			int sideToMove = material.decode(index, squares);
+
+			if(!setUp(material, squares, sideToMove)) {
+				values[index] = (byte) Tablebase.INVALID;
+				continue;
+			}
+			moves.clear();
+			MoveGenerator.generateLegalMoves(position, moves);
+
+			if(moves.isEmpty()) {
+				if(MoveGenerator.isInCheck(position)) {
+					values[index] = 1;
+				}
+				moveCounts[index] = (byte) ESCAPE;
+				continue;
+			}
+			int count = 0;
+			boolean escape = false;
+			int fastestWin = Integer.MAX_VALUE;
+			int longestLoss = 0;
+
+			for(int i = 0; i < moves.size(); i++) {
+				int move = moves.get(i);
+
+				if(position.getPiece(Move.toOf(move)) == Position.EMPTY && Move.flagOf(move) != Move.PROMOTION) {
+					if(Move.flagOf(move) == Move.DOUBLE_PAWN_PUSH) {
+						highest = Math.max(highest, addEnPassantEdge(material, index, move, reached));
+					}
+					count++;
+					continue;
+				}
+				position.makeMove(move);
+				int result = tablebase.probe(position);
+
+				if(result == Tablebase.UNKNOWN) {
+					throw new IllegalStateException("Table " + Material.canonicalName(Material.nameOf(position)) + " is missing to generate " + material);
+				}
+				position.unmakeMove();
+				if(Tablebase.isWin(result)) {
+					longestLoss = Math.max(longestLoss, Tablebase.distanceToMate(result) + 1);
+				}
+				else {
+					escape = true;
+
+					if(Tablebase.isLoss(result)) {
+						fastestWin = Math.min(fastestWin, Tablebase.distanceToMate(result) + 1);
+					}
+				}
+			}
+			moveCounts[index] = (byte) (count | (escape ? ESCAPE : 0));
+
+			if(fastestWin != Integer.MAX_VALUE) {
+				conversions[index] = (byte) (fastestWin + 1);
+				highest = Math.max(highest, fastestWin);
+			}
+			else if(!escape) {
+				conversions[index] = (byte) longestLoss;
+
+				//Every move captures or promotes into a lost position
+				if(count == 0) {
+					values[index] = (byte) (longestLoss + 1);
+					highest = Math.max(highest, longestLoss);
+				}
+			}
+		}
+		return highest;
+	}
+
+	/**
+	 * Plays a double pawn push and records the result of the En Passant
+	 * captures it allows, counting the push down at the distance a winning
+	 * capture wins at
+	 *
+	 * @param index		Index of the position the push is played from
+	 * @param reached	The array for storing the squares of the position reached
+	 * @return			The distance the push is counted down at, or 0
+	 */
+	private int addEnPassantEdge(Material material, int index, int move, int[] reached) {
+		position.makeMove(move);
+		int distance = 0;
+
+		if(position.getEnPassantSquare() != Position.NO_SQUARE) {
+			int capture = tablebase.probeEnPassant(position);
+
+			if(capture == Tablebase.UNKNOWN) {
+				throw new IllegalStateException("Tables of the En Passant captures of " + material + " are missing");
+			}
+			if(capture != Tablebase.NO_CAPTURE) {
+				long edge = (long) material.index(position, false, reached) << 32 | index;
+				enPassantEdges.put(edge, capture);
+
+				if(Tablebase.isWin(capture)) {
+					distance = Tablebase.distanceToMate(capture);
+					addEvent(lateEdges, distance, edge);
+				}
+			}
+		}
+		position.unmakeMove();
+		return distance;
+	}
+
+	private static <T> void addEvent(Map<Integer, List<T>> events, int distance, T event) {
+		List<T> list = events.get(distance);
+
+		if(list == null) {
+			list = new ArrayList<T>();
+			events.put(distance, list);
+		}
+		list.add(event);
+	}
+
+	/**
+	 * Decides or counts down the positions whose double pawn push is settled
+	 * by its En Passant captures at the given distance
+	 *
+	 * @return The longest distance to mate decided
+	 */
+	private int resolveEnPassant(byte[] values, byte[] moveCounts, byte[] conversions, int distance) {
+		int highest = distance;
+		List<Integer> wins = lateWins.remove(distance);
+		List<Long> edges = lateEdges.remove(distance);
+
+		if(wins != null) {
+			for(int index : wins) {
+				if(values[index] == 0) {
+					values[index] = (byte) (distance + 1);
+				}
+			}
+		}
+		if(edges != null) {
+			for(long edge : edges) {
+				int index = (int) edge;
+
+				//The position reached may already have counted the push down as won without the capture
+				if(enPassantEdges.put(edge, RESOLVED) != RESOLVED && values[index] == 0) {
+					highest = Math.max(highest, countDown(values, moveCounts, conversions, index, distance));
+				}
+			}
+		}
+		return highest;
+	}
+
+	/**
+	 * Counts down the moves of a position that aren't known to lose, deciding
+	 * it lost once none is left
+	 *
+	 * @param distance	Distance to mate of the won position a move leads to
+	 * @return			The distance to mate of the position, or the given distance while undecided
+	 */
+	private int countDown(byte[] values, byte[] moveCounts, byte[] conversions, int index, int distance) {
+		if(--moveCounts[index] != 0) {
+			return distance;
+		}
+		int lossDistance = Math.max(distance + 1, conversions[index] & 0xFF);
+		values[index] = (byte) (lossDistance + 1);
+		return lossDistance;
+	}
+
+	/**
+	 * Sets up a position of the table
+	 *
+	 * @return Whether the squares describe a legal position in its indexed form
+	 */
+	private boolean setUp(Material material, int[] squares, int sideToMove) {
+		if(!material.isNormalized(squares)) {
+			return false;
+		}
+		position.clear();
+
+		for(int slot = 0; slot < squares.length; slot++) {
+			//Pawns never stand on the first or last rank
+			if(material.getType(slot) == Position.PAWN && (Position.row(squares[slot]) == 0 || Position.row(squares[slot]) == 7)) {
+				return false;
+			}
+			position.addPiece(material.getColor(slot), material.getType(slot), squares[slot]);
+		}
+		position.setSideToMove(sideToMove);
+
+		//The player who just moved can't have left their King in check
+		return !position.isSquareAttacked(position.getKingSquare(sideToMove ^ 1), sideToMove);
+	}
+
+	/**
+	 * Takes back every move the player who just moved could have played to
+	 * reach a position decided at the given distance, deciding or counting
+	 * down the positions it came from
+	 *
+	 * @param decided	Index of the decided position
+	 * @param squares	Square of every slot of the decided position
+	 * @param previous	Array to build the positions it came from in
+	 * @param mover		The player who just moved
+	 * @return			The longest distance to mate decided
+	 */
+	private int retract(Material material, byte[] values, byte[] moveCounts, byte[] conversions, int decided, int[] squares,
+			int[] previous, int mover, int distance) {
+		long occupied = 0;
+		int highest = distance;
+
+		for(int square : squares) {
+			occupied |= 1L << square;
+		}
+		for(int slot = 0; slot < squares.length; slot++) {
+			if(material.getColor(slot) != mover) {
+				continue;
+			}
+			int to = squares[slot];
+			long origins;
+
+			switch(material.getType(slot)) {
+			case Position.PAWN:
+				origins = pawnOrigins(mover, to, occupied);
+				break;
+			case Position.KNIGHT:
+				origins = Attacks.knightAttacks(to) & ~occupied;
+				break;
+			case Position.BISHOP:
+				origins = Attacks.bishopAttacks(to, occupied) & ~occupied;
+				break;
+			case Position.ROOK:
+				origins = Attacks.rookAttacks(to, occupied) & ~occupied;
+				break;
+			case Position.QUEEN:
+				origins = Attacks.queenAttacks(to, occupied) & ~occupied;
+				break;
+			default:
+				origins = Attacks.kingAttacks(to) & ~occupied;
+			}
+			while(origins != 0) {
+				System.arraycopy(squares, 0, previous, 0, squares.length);
+				previous[slot] = Long.numberOfTrailingZeros(origins);
+				origins &= origins - 1;
+				boolean doublePush = material.getType(slot) == Position.PAWN && Math.abs(previous[slot] - to) == 16;
+
+				material.normalize(previous);
+				int index = material.index(mover, previous);
+
+				if(values[index] != 0) {
+					continue;
+				}
+				if(distance + 1 > MAX_DISTANCE) {
+					throw new IllegalStateException("Distance to mate of " + material + " is too long to store");
+				}
+				long edge = (long) decided << 32 | index;
+				Integer capture = doublePush ? enPassantEdges.get(edge) : null;
+
+				if(capture != null) {
+					//The opponent captures En Passant unless it does worse than the position without the capture
+					if(distance % 2 == 0) {
+						if(!Tablebase.isLoss(capture)) {
+							continue;
+						}
+						if(Tablebase.distanceToMate(capture) > distance) {
+							addEvent(lateWins, Tablebase.distanceToMate(capture) + 1, index);
+							highest = Math.max(highest, Tablebase.distanceToMate(capture) + 1);
+							continue;
+						}
+					}
+					else if(capture == RESOLVED) {
+						continue;
+					}
+					else if(Tablebase.isWin(capture)) {
+						enPassantEdges.put(edge, RESOLVED);
+					}
+				}
+
+				//A move into a lost position wins, and once every move leads to a won one the position is lost
+				if(distance % 2 == 0) {
+					values[index] = (byte) (distance + 2);
+					highest = Math.max(highest, distance + 1);
+				}
+				else {
+					highest = Math.max(highest, countDown(values, moveCounts, conversions, index, distance));
+				}
+			}
+		}
+		return highest;
+	}
+
+	/**
+	 * @return The squares a pawn on the given square can have moved from without capturing
+	 */
+	private static long pawnOrigins(int color, int to, long occupied) {
+		int step = color == Position.WHITE ? 8 : -8; //White pawns move towards row 0
+		int row = Position.row(to);
+		long origins = 0;
+
+		//A pawn can't have come from its first rank, nor from beyond the board
+		if(color == Position.WHITE ? row <= 5 : row >= 2) {
+			int from = to + step;
+
+			if((occupied & (1L << from)) == 0) {
+				origins |= 1L << from;
+
+				if(row == (color == Position.WHITE ? 4 : 3) && (occupied & (1L << (from + step))) == 0) {
+					origins |= 1L << (from + step);
+				}
+			}
+		}
+		return origins;
+	}
+
+	/**
+	 * @return The sets of pieces that the captures and promotions of a set lead to
+	 */
+	private static List<String> dependencies(String name) {
+		List<String> dependencies = new ArrayList<String>();
+
+		for(int i = 1; i < name.length(); i++) {
+			char letter = name.charAt(i);
+
+			if(letter == 'K') {
+				continue;
+			}
+			addDependency(dependencies, name.substring(0, i) + name.substring(i + 1));
+
+			if(letter == 'P') {
+				for(int j = 0; j < PROMOTION_LETTERS.length(); j++) {
+					addDependency(dependencies, name.substring(0, i) + PROMOTION_LETTERS.charAt(j) + name.substring(i + 1));
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Adds a set of pieces with each side's pieces put back in name order
+	 */
+	private static void addDependency(List<String> dependencies, String name) {
+		int blackKing = name.indexOf('K', 1);
+		String canonicalName = Material.canonicalName(sortSide(name.substring(0, blackKing)) + sortSide(name.substring(blackKing)));
+
+		if(!Material.isDrawn(canonicalName) && !dependencies.contains(canonicalName)) {
+			dependencies.add(canonicalName);
+		}
+	}
+
+	private static String sortSide(String side) {
+		StringBuilder sorted = new StringBuilder("K");
+
+		for(char letter : PIECE_ORDER.toCharArray()) {
+			for(int i = 1; i < side.length(); i++) {
+				if(side.charAt(i) == letter) {
+					sorted.append(letter);
+				}
+			}
+		}
+		return sorted.toString();
+	}
+
+	/**
+	 * Adds a generated table to the tablebase, writing it first when a
+	 * directory was given
+	 */
+	private void addTable(Material material, byte[] values) throws IOException {
+		if(directory != null) {
+			Path file = directory.resolve(material.getName() + Tablebase.FILE_EXTENSION);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+
+			try {
+				out.writeLong(Tablebase.MAGIC);
+				out.writeLong(values.length);
+				out.write(values);
+			} finally {
+				out.close();
+			}
+		}
+		tablebase.addTable(material, ByteBuffer.wrap(values));
+	}
+}
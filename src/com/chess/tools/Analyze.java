@@ -0,0 +1,92 @@
+package com.chess.tools;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import com.chess.engine.Position;
+import com.chess.notation.Fen;
+import com.chess.search.ParallelSearcher;
+import com.chess.search.SearchLimits;
+import com.chess.search.SearchResult;
+import com.chess.search.Searcher;
+import com.chess.search.TranspositionTable;
+import com.chess.tablebase.Tablebase;
+
+/**
+ * Searches a position headlessly and prints the best move found. Run from
+ * the command line:
+ *
+ *   Analyze [--fen "record"] [--time ms] [--depth N] [--nodes N] [--hash MB] [--threads N] [--tablebases dir]
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Analyze {
+
+	public static void main(String[] args) throws IOException {
+		String fen = Fen.STARTING_POSITION;
+		int depth = 0;
+		long time = 1000;
+		long nodes = 0;
+		int hashMegabytes = Searcher.DEFAULT_HASH_MEGABYTES;
+		int threads = 1;
+		Tablebase tablebase = null;
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--fen") && i + 1 < args.length) {
+				fen = args[++i];
+			}
+			else if(args[i].equals("--time") && i + 1 < args.length) {
+				time = Long.parseLong(args[++i]);
+			}
+			else if(args[i].equals("--depth") && i + 1 < args.length) {
+				depth = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--nodes") && i + 1 < args.length) {
+				nodes = Long.parseLong(args[++i]);
+			}
+			else if(args[i].equals("--hash") && i + 1 < args.length) {
+				hashMegabytes = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--threads") && i + 1 < args.length) {
+				threads = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--tablebases") && i + 1 < args.length) {
+				tablebase = Tablebase.open(Paths.get(args[++i]));
+			}
+			else {
+				System.err.println("Usage: Analyze [--fen \"record\"] [--time ms] [--depth N] [--nodes N] [--hash MB] [--threads N] [--tablebases dir]");
+				System.exit(2);
+			}
+		}
+		//A depth or node limit given alone searches without a time limit
+		if((depth > 0 || nodes > 0) && !contains(args, "--time")) {
+			time = 0;
+		}
+		Position position = Fen.parse(fen);
+		ParallelSearcher searcher = new ParallelSearcher(threads, new TranspositionTable(hashMegabytes));
+		searcher.setTablebase(tablebase);
+		SearchResult result = searcher.search(position, new SearchLimits(depth, time, nodes));
+		searcher.shutdown();
+
+		System.out.println(result);
+		System.out.println(String.format("pawn hash hit rate %.1f%%", searcher.getPawnHashHitRate() * 100));
+
+		int probe = tablebase == null ? Tablebase.UNKNOWN : tablebase.probe(position);
+
+		if(probe != Tablebase.UNKNOWN) {
+			System.out.println("tablebase " + tablebase.adjudicate(position)
+					+ (probe == Tablebase.DRAW ? "" : ", mate in " + Tablebase.distanceToMate(probe) + " plies"));
+		}
+		System.out.println("bestmove " + result.getBestMove());
+	}
+
+	private static boolean contains(String[] args, String option) {
+		for(String arg : args) {
+			if(arg.equals(option)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
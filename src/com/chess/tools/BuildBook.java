@@ -0,0 +1,54 @@
+package com.chess.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.chess.book.OpeningBookBuilder;
+
+/**
+ * Builds an opening book from the finished games of PGN archives. Run from
+ * the command line:
+ *
+ *   BuildBook [--plies N] [--min-games N] book.bin archive.pgn...
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class BuildBook {
+
+	public static void main(String[] args) throws IOException {
+		int maxPlies = OpeningBookBuilder.DEFAULT_MAX_PLIES;
+		int minGames = OpeningBookBuilder.DEFAULT_MIN_GAMES;
+		List<Path> files = new ArrayList<Path>();
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--plies") && i + 1 < args.length) {
+				maxPlies = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--min-games") && i + 1 < args.length) {
+				minGames = Integer.parseInt(args[++i]);
+			}
+			else {
+				files.add(Paths.get(args[i]));
+			}
+		}
+		if(files.size() < 2) {
+			System.err.println("Usage: BuildBook [--plies N] [--min-games N] book.bin archive.pgn...");
+			System.exit(2);
+		}
+		long start = System.nanoTime();
+		OpeningBookBuilder builder = new OpeningBookBuilder(maxPlies, minGames);
+		long games = 0;
+
+		for(Path archive : files.subList(1, files.size())) {
+			games += builder.addArchive(archive);
+		}
+		int entries = builder.write(files.get(0));
+
+		System.out.println(games + " games, " + builder.getMoveCount() + " distinct moves, " + entries + " entries written to "
+				+ files.get(0) + " in " + (System.nanoTime() - start) / 1000000 + " ms");
+	}
+}
@@ -0,0 +1,65 @@
+package com.chess.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.chess.tablebase.Tablebase;
+import com.chess.tablebase.TablebaseGenerator;
+
+/**
+ * Generates endgame tables into a directory, along with the tables they
+ * depend on. Tables already in the directory are kept. Run from the command
+ * line:
+ *
+ *   BuildTablebases [--dir path] [--pieces N | material...]
+ *
+ * Without materials the KQK, KRK and KPK tables are built, and --pieces N
+ * builds every set of up to N pieces.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class BuildTablebases {
+
+	public static void main(String[] args) throws IOException {
+		Path directory = Paths.get("tablebases");
+		List<String> materials = new ArrayList<String>();
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--dir") && i + 1 < args.length) {
+				directory = Paths.get(args[++i]);
+			}
+			else if(args[i].equals("--pieces") && i + 1 < args.length) {
+				materials.addAll(TablebaseGenerator.materials(Integer.parseInt(args[++i])));
+			}
+			else if(!args[i].startsWith("--")) {
+				materials.add(args[i].toUpperCase());
+			}
+			else {
+				System.err.println("Usage: BuildTablebases [--dir path] [--pieces N | material...]");
+				System.exit(2);
+			}
+		}
+		if(materials.isEmpty()) {
+			materials.addAll(Arrays.asList("KQK", "KRK", "KPK"));
+		}
+		Files.createDirectories(directory);
+		Tablebase tablebase = Tablebase.open(directory);
+		TablebaseGenerator generator = new TablebaseGenerator(tablebase, directory);
+
+		for(String material : materials) {
+			if(tablebase.hasTable(material)) {
+				continue;
+			}
+			long start = System.nanoTime();
+			generator.generate(material);
+			System.out.println(material + " generated in " + (System.nanoTime() - start) / 1000000 + " ms");
+		}
+		System.out.println("Tables in " + directory + ": " + tablebase.getTables());
+	}
+}
@@ -0,0 +1,255 @@
+package com.chess.tools;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.chess.VerificationHelper;
+import com.chess.engine.BoardAdapter;
+import com.chess.engine.Move;
+import com.chess.engine.MoveGenerator;
+import com.chess.engine.MoveList;
+import com.chess.engine.Position;
+import com.chess.notation.Fen;
+import com.chess.pieces.Bishop;
+import com.chess.pieces.ChessPiece;
+import com.chess.pieces.King;
+import com.chess.pieces.Knight;
+import com.chess.pieces.Pawn;
+import com.chess.pieces.Queen;
+import com.chess.pieces.Rook;
+
+/**
+ * Counts the leaf nodes of the legal move tree to a fixed depth, used to
+ * validate and measure the move generator. Run from the command line:
+ *
+ *   Perft [--fen "record"] [--depth N] [--divide] [--adapter] [--suite]
+ *
+ * --divide prints the node count below every root move, --adapter checks the
+ * BoardAdapter at every node of the tree and --suite runs the reference
+ * positions of PerftSuite. The VerificationHelper methods the GUI grid relies
+ * on filter the move generator's moves of a position converted back from the
+ * grid, so --adapter finds positions the conversion to the reference grid and
+ * back doesn't preserve, not move generation bugs.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class Perft {
+
+	private final List<MoveList> moveLists = new ArrayList<MoveList>(); //Move list reused at each ply
+	private int adapterMismatches; //Number of positions whose moves changed through the reference grid
+
+	/**
+	 * Counts the leaf nodes of the legal move tree
+	 *
+	 * @param position	The position to start from
+	 * @param depth		Number of plies to search
+	 * @return			Number of leaf nodes found
+	 */
+	public long perft(Position position, int depth) {
+		if(depth == 0) {
+			return 1;
+		}
+		MoveList moves = movesForPly(depth);
+		MoveGenerator.generateLegalMoves(position, moves);
+
+		//The moves found one ply from the leaves are the leaves themselves
+		if(depth == 1) {
+			return moves.size();
+		}
+		long nodes = 0;
+
+		for(int i = 0; i < moves.size(); i++) {
+			position.makeMove(moves.get(i));
+			nodes += perft(position, depth - 1);
+			position.unmakeMove();
+		}
+		return nodes;
+	}
+
+	/**
+	 * Counts the leaf nodes below every legal root move and prints them
+	 *
+	 * @param position	The position to start from
+	 * @param depth		Number of plies to search, at least 1
+	 * @param out		Stream to print the node count of every root move to
+	 * @return			Number of leaf nodes found
+	 */
+	public long divide(Position position, int depth, PrintStream out) {
+		long nodes = 0;
+
+		for(Move move : MoveGenerator.generateLegalMoves(position)) {
+			position.makeMove(move);
+			long moveNodes = perft(position, depth - 1);
+			position.unmakeMove();
+
+			out.println(move + ": " + moveNodes);
+			nodes += moveNodes;
+		}
+		return nodes;
+	}
+
+	/**
+	 * Walks the legal move tree and checks at every node that the
+	 * VerificationHelper methods, given the position converted to a reference
+	 * grid, find the same moves as the move generator given the position itself
+	 *
+	 * @param position	The position to start from
+	 * @param depth		Number of plies to walk
+	 * @param out		Stream to print each disagreement to
+	 * @return			Number of positions where the two disagreed
+	 */
+	public int checkBoardAdapter(Position position, int depth, PrintStream out) {
+		adapterMismatches = 0;
+		checkBoardAdapter(position, depth, new ArrayList<Move>(), out);
+		return adapterMismatches;
+	}
+
+	private void checkBoardAdapter(Position position, int depth, List<Move> line, PrintStream out) {
+		Set<String> expected = new TreeSet<String>();
+		List<Move> moves = MoveGenerator.generateLegalMoves(position);
+
+		//Promotions share the same origin and target squares in the reference grid
+		for(Move move : moves) {
+			expected.add(Position.squareName(move.getFrom()) + Position.squareName(move.getTo()));
+		}
+		Set<String> found;
+
+		try {
+			found = findReferenceGridMoves(position);
+		} catch(RuntimeException e) {
+			found = new TreeSet<String>();
+			found.add(e.toString());
+		}
+
+		if(!found.equals(expected)) {
+			adapterMismatches++;
+
+			Set<String> missing = new TreeSet<String>(expected);
+			missing.removeAll(found);
+			Set<String> extra = new TreeSet<String>(found);
+			extra.removeAll(expected);
+
+			out.println("After " + (line.isEmpty() ? "(root)" : line.toString()) + " missing " + missing + " extra " + extra);
+		}
+
+		if(depth > 1) {
+			for(Move move : moves) {
+				line.add(move);
+				position.makeMove(move);
+				checkBoardAdapter(position, depth - 1, line, out);
+				position.unmakeMove();
+				line.remove(line.size() - 1);
+			}
+		}
+	}
+
+	/**
+	 * @return The origin and target squares of every move the VerificationHelper methods allow on the position's reference grid
+	 */
+	static Set<String> findReferenceGridMoves(Position position) {
+		Set<String> found = new TreeSet<String>();
+		ChessPiece[][] referenceGrid = BoardAdapter.toReferenceGrid(position);
+		boolean whiteToMove = position.getSideToMove() == Position.WHITE;
+
+		for(int i = 0; i < 8; i++) {
+			for(int j = 0; j < 8; j++) {
+				ChessPiece piece = referenceGrid[i][j];
+
+				if(piece == null || piece.isPieceWhite() != whiteToMove) {
+					continue;
+				}
+				ArrayList<int[]> positionsFound = new ArrayList<int[]>();
+
+				if(piece instanceof Pawn)
+					VerificationHelper.findLegalPawnMovements((Pawn)piece, referenceGrid, positionsFound);
+				else if(piece instanceof Knight)
+					VerificationHelper.findLegalKnightMovements((Knight)piece, referenceGrid, positionsFound);
+				else if(piece instanceof Bishop)
+					VerificationHelper.findLegalBishopMovements((Bishop)piece, referenceGrid, positionsFound);
+				else if(piece instanceof Rook)
+					VerificationHelper.findLegalRookMovements((Rook)piece, referenceGrid, positionsFound);
+				else if(piece instanceof Queen)
+					VerificationHelper.findLegalQueenMovements((Queen)piece, referenceGrid, positionsFound);
+				else if(piece instanceof King)
+					VerificationHelper.findLegalKingMovements((King)piece, referenceGrid, positionsFound);
+
+				for(int[] coordinate : positionsFound) {
+					found.add(Position.squareName(Position.square(i, j)) + Position.squareName(Position.square(coordinate[0], coordinate[1])));
+				}
+			}
+		}
+		return found;
+	}
+
+	private MoveList movesForPly(int depth) {
+		while(moveLists.size() <= depth) {
+			moveLists.add(new MoveList());
+		}
+		MoveList moves = moveLists.get(depth);
+		moves.clear();
+		return moves;
+	}
+
+	/**
+	 * @return A report line of the node count, elapsed time and throughput
+	 */
+	static String formatThroughput(long nodes, long nanoseconds) {
+		long milliseconds = nanoseconds / 1000000;
+		long nodesPerSecond = nanoseconds == 0 ? 0 : (long)(nodes * 1e9 / nanoseconds);
+		return nodes + " nodes in " + milliseconds + " ms (" + nodesPerSecond + " nodes/second)";
+	}
+
+	public static void main(String[] args) {
+		String fen = Fen.STARTING_POSITION;
+		int depth = 5;
+		boolean divide = false;
+		boolean adapter = false;
+		boolean suite = false;
+		boolean depthGiven = false;
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--fen") && i + 1 < args.length) {
+				fen = args[++i];
+			}
+			else if(args[i].equals("--depth") && i + 1 < args.length) {
+				depth = Integer.parseInt(args[++i]);
+				depthGiven = true;
+			}
+			else if(args[i].equals("--divide")) {
+				divide = true;
+			}
+			else if(args[i].equals("--adapter")) {
+				adapter = true;
+			}
+			else if(args[i].equals("--suite")) {
+				suite = true;
+			}
+			else {
+				System.err.println("Usage: Perft [--fen \"record\"] [--depth N] [--divide] [--adapter] [--suite]");
+				System.exit(2);
+			}
+		}
+
+		if(suite) {
+			int failures = PerftSuite.run(depthGiven ? depth : PerftSuite.DEFAULT_DEPTH, System.out);
+			System.exit(failures == 0 ? 0 : 1);
+		}
+		Position position = Fen.parse(fen);
+		Perft perft = new Perft();
+
+		if(adapter) {
+			int mismatches = perft.checkBoardAdapter(position, depth, System.out);
+			System.out.println(mismatches + " positions whose moves changed through the reference grid");
+			System.exit(mismatches == 0 ? 0 : 1);
+		}
+		long start = System.nanoTime();
+		long nodes = divide ? perft.divide(position, depth, System.out) : perft.perft(position, depth);
+		long elapsed = System.nanoTime() - start;
+
+		System.out.println("Depth " + depth + ": " + formatThroughput(nodes, elapsed));
+	}
+}
@@ -0,0 +1,88 @@
+package com.chess.tools;
+
+import java.io.PrintStream;
+
+import com.chess.engine.Position;
+import com.chess.notation.Fen;
+
+/**
+ * Reference positions with their published perft node counts, covering
+ * castling, En Passant, promotions and discovered checks
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PerftSuite {
+
+	public static final int DEFAULT_DEPTH = 4;
+
+	private static final String[] NAMES = {
+		"Starting position",
+		"Kiwipete",
+		"Rook and pawn endgame",
+		"Promotions and castling",
+		"Promotions and castling (mirrored)",
+		"Underpromotion and discovered check",
+		"Symmetrical middlegame"
+	};
+
+	private static final String[] POSITIONS = {
+		Fen.STARTING_POSITION,
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+		"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+		"r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1",
+		"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+		"r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"
+	};
+
+	//Expected node counts starting at depth 1
+	private static final long[][] NODE_COUNTS = {
+		{20L, 400L, 8902L, 197281L, 4865609L, 119060324L},
+		{48L, 2039L, 97862L, 4085603L, 193690690L},
+		{14L, 191L, 2812L, 43238L, 674624L, 11030083L},
+		{6L, 264L, 9467L, 422333L, 15833292L},
+		{6L, 264L, 9467L, 422333L, 15833292L},
+		{44L, 1486L, 62379L, 2103487L, 89941194L},
+		{46L, 2079L, 89890L, 3894594L, 164075551L}
+	};
+
+	/**
+	 * Runs every reference position up to the given depth, or the deepest
+	 * known count when it is shallower, printing each result
+	 *
+	 * @param maxDepth	Deepest depth to run
+	 * @param out		Stream to print the results to
+	 * @return			Number of depths whose node count didn't match
+	 */
+	public static int run(int maxDepth, PrintStream out) {
+		Perft perft = new Perft();
+		int failures = 0;
+		long totalNodes = 0;
+		long totalTime = 0;
+
+		for(int i = 0; i < POSITIONS.length; i++) {
+			out.println(NAMES[i] + ": " + POSITIONS[i]);
+
+			for(int depth = 1; depth <= Math.min(maxDepth, NODE_COUNTS[i].length); depth++) {
+				Position position = Fen.parse(POSITIONS[i]);
+				long expected = NODE_COUNTS[i][depth - 1];
+
+				long start = System.nanoTime();
+				long nodes = perft.perft(position, depth);
+				long elapsed = System.nanoTime() - start;
+
+				totalNodes += nodes;
+				totalTime += elapsed;
+
+				if(nodes != expected) {
+					failures++;
+				}
+				out.println("  depth " + depth + ": " + Perft.formatThroughput(nodes, elapsed)
+						+ (nodes == expected ? " OK" : " FAILED, expected " + expected));
+			}
+		}
+		out.println("Total: " + Perft.formatThroughput(totalNodes, totalTime) + ", " + failures + " failures");
+		return failures;
+	}
+}
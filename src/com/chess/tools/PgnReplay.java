@@ -0,0 +1,409 @@
+package com.chess.tools;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.chess.engine.Game;
+import com.chess.engine.Move;
+import com.chess.engine.Position;
+import com.chess.enums.GameStatus;
+import com.chess.notation.Fen;
+import com.chess.notation.PgnGame;
+import com.chess.notation.PgnReader;
+
+/**
+ * Replays every game of a PGN archive on a fork/join pool. The archive is
+ * split in halves at game boundaries until the pieces are small enough, and
+ * each piece is read through its own PgnReader, so the threads share nothing
+ * but the file and the progress counters. Every move is decoded against the
+ * legal moves of its position, the final position is evaluated with the same
+ * rules a Game applies, and optionally every move is checked to be found on
+ * the reference grid BoardAdapter converts its position to, as with Perft
+ * --adapter. Run from the command line:
+ *
+ *   PgnReplay [--threads N] [--chunk MB] [--adapter] file.pgn
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class PgnReplay {
+
+	public static final int DEFAULT_CHUNK_BYTES = 4 << 20;
+
+	private static final int SCAN_BYTES = 1 << 16; //Bytes read at a time looking for a game boundary
+	private static final int PROGRESS_GAMES = 256; //Games replayed between updates of the progress counters
+
+	private final ForkJoinPool pool;
+	private final int chunkBytes;
+	private final boolean checkBoardAdapter;
+
+	//Progress of the running replay, readable from any thread
+	private final AtomicLong bytesReplayed = new AtomicLong();
+	private final AtomicLong gamesReplayed = new AtomicLong();
+	private final AtomicLong movesReplayed = new AtomicLong();
+	private final AtomicLong illegalGames = new AtomicLong();
+	private volatile long archiveBytes;
+	private volatile long startTime;
+
+	private FileChannel file; //Archive being replayed
+
+	/**
+	 * Constructor for PgnReplay objects
+	 *
+	 * @param threads							Number of threads replaying games
+	 * @param chunkBytes						Size below which a piece of the archive is no longer split
+	 * @param checkBoardAdapter		Whether every move is also checked to be found on the reference grid of its position
+	 */
+	public PgnReplay(int threads, int chunkBytes, boolean checkBoardAdapter) {
+		if(threads < 1) {
+			throw new IllegalArgumentException("At least one replay thread is needed: " + threads);
+		}
+		this.pool = new ForkJoinPool(threads);
+		this.chunkBytes = Math.max(chunkBytes, SCAN_BYTES);
+		this.checkBoardAdapter = checkBoardAdapter;
+	}
+
+	/**
+	 * Replays every game of an archive, blocking until they are all done. The
+	 * progress counters can be read from another thread meanwhile.
+	 *
+	 * @param archive	The PGN archive to replay
+	 * @return			The totals of the archive
+	 * @throws IOException	If the archive can't be read
+	 */
+	public synchronized ReplayStatistics replay(Path archive) throws IOException {
+		file = FileChannel.open(archive, StandardOpenOption.READ);
+		bytesReplayed.set(0);
+		gamesReplayed.set(0);
+		movesReplayed.set(0);
+		illegalGames.set(0);
+		archiveBytes = file.size();
+		startTime = System.nanoTime();
+
+		try {
+			return pool.invoke(new ReplayTask(0, archiveBytes));
+		} catch(ReplayFailure e) {
+			throw (IOException) e.getCause();
+		} finally {
+			file.close();
+			file = null;
+		}
+	}
+
+	public long getArchiveBytes() {
+		return archiveBytes;
+	}
+
+	public long getBytesReplayed() {
+		return bytesReplayed.get();
+	}
+
+	public long getGamesReplayed() {
+		return gamesReplayed.get();
+	}
+
+	public long getMovesReplayed() {
+		return movesReplayed.get();
+	}
+
+	public long getIllegalGames() {
+		return illegalGames.get();
+	}
+
+	/**
+	 * @return A report line of the progress and throughput of the replay so far
+	 */
+	public String formatProgress() {
+		double seconds = Math.max(System.nanoTime() - startTime, 1) / 1e9;
+		long bytes = bytesReplayed.get();
+		return String.format("%.1f%% of %.1f MB, %d games, %d moves, %d illegal in %.1f s: %.0f games/s, %.0f moves/s, %.1f MB/s",
+				archiveBytes == 0 ? 100.0 : bytes * 100.0 / archiveBytes, archiveBytes / 1e6, gamesReplayed.get(), movesReplayed.get(),
+				illegalGames.get(), seconds, gamesReplayed.get() / seconds, movesReplayed.get() / seconds, bytes / 1e6 / seconds);
+	}
+
+	/**
+	 * Ends the replay threads. The replay can't be used afterwards.
+	 */
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	/**
+	 * Finds the first game starting at or after an offset: a tag line right
+	 * after a blank line, which is how PGN export format separates games
+	 *
+	 * @return The offset of the game's opening bracket, or end if no game starts before it
+	 */
+	private long findGameStart(long from, long end) throws IOException {
+		ByteBuffer window = ByteBuffer.allocate(SCAN_BYTES);
+		byte[] bytes = window.array();
+
+		//Start a few bytes early so the line endings before the offset are seen
+		long start = Math.max(0, from - 3);
+
+		while(start < end) {
+			window.clear();
+			window.limit((int) Math.min(SCAN_BYTES, end - start));
+			int count = file.read(window, start);
+
+			if(count <= 0) {
+				break;
+			}
+			for(int i = 3; i < count; i++) {
+				if(bytes[i] == '[' && bytes[i - 1] == '\n' && start + i >= from
+						&& (bytes[i - 2] == '\n' || (bytes[i - 2] == '\r' && bytes[i - 3] == '\n'))) {
+					return start + i;
+				}
+			}
+			//Windows overlap so a boundary across two of them is still found
+			start += Math.max(count - 3, 1);
+		}
+		return end;
+	}
+
+	/**
+	 * Replays the games of a piece of the archive starting at a game boundary
+	 */
+	private ReplayStatistics replayChunk(long start, long end) throws IOException {
+		ReplayStatistics statistics = new ReplayStatistics();
+		PgnReader reader = new PgnReader(new RegionChannel(file, start, end));
+		PgnGame game = new PgnGame();
+		Position replayed = new Position();
+		long reportedBytes = 0;
+		long games = 0;
+		long moves = 0;
+		long illegal = 0;
+
+		while(true) {
+			long offset = start + reader.getOffset();
+
+			if(!reader.readGame(game)) {
+				break;
+			}
+			Position position = reader.getPosition();
+			GameStatus finalStatus = game.isLegal() ? Game.statusOf(position) : null;
+			statistics.addGame(game, finalStatus, position.getSideToMove(), offset);
+
+			if(checkBoardAdapter && game.isLegal()) {
+				checkBoardAdapter(game, replayed, statistics, offset);
+			}
+			games++;
+			moves += game.getMoveCount();
+			illegal += game.isLegal() ? 0 : 1;
+
+			if(games == PROGRESS_GAMES) {
+				long bytes = reader.getOffset();
+				reportProgress(bytes - reportedBytes, games, moves, illegal);
+				reportedBytes = bytes;
+				games = moves = illegal = 0;
+			}
+		}
+		reportProgress(end - start - reportedBytes, games, moves, illegal);
+		return statistics;
+	}
+
+	/**
+	 * Plays the game again from its starting position, checking that the
+	 * VerificationHelper methods find every move on the reference grid of its position
+	 */
+	private static void checkBoardAdapter(PgnGame game, Position position, ReplayStatistics statistics, long offset) {
+		String fen = game.getTag("FEN");
+		Fen.parse(fen != null ? fen : Fen.STARTING_POSITION, position);
+
+		for(int ply = 0; ply < game.getMoveCount(); ply++) {
+			int move = game.getMove(ply);
+			Set<String> allowed;
+
+			//A position the conversion crashes on counts as one where nothing is found
+			try {
+				allowed = Perft.findReferenceGridMoves(position);
+			} catch(RuntimeException e) {
+				allowed = Collections.emptySet();
+			}
+			if(!allowed.contains(Position.squareName(Move.fromOf(move)) + Position.squareName(Move.toOf(move)))) {
+				statistics.addAdapterMismatch(game, ply, offset);
+				return;
+			}
+			position.makeMove(move);
+		}
+	}
+
+	private void reportProgress(long bytes, long games, long moves, long illegal) {
+		bytesReplayed.addAndGet(bytes);
+		gamesReplayed.addAndGet(games);
+		movesReplayed.addAndGet(moves);
+		illegalGames.addAndGet(illegal);
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int threads = Runtime.getRuntime().availableProcessors();
+		int chunkBytes = DEFAULT_CHUNK_BYTES;
+		boolean adapter = false;
+		Path archive = null;
+
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--threads") && i + 1 < args.length) {
+				threads = Integer.parseInt(args[++i]);
+			}
+			else if(args[i].equals("--chunk") && i + 1 < args.length) {
+				chunkBytes = Integer.parseInt(args[++i]) << 20;
+			}
+			else if(args[i].equals("--adapter")) {
+				adapter = true;
+			}
+			else if(archive == null && !args[i].startsWith("--")) {
+				archive = Paths.get(args[i]);
+			}
+			else {
+				archive = null;
+				break;
+			}
+		}
+		if(archive == null) {
+			System.err.println("Usage: PgnReplay [--threads N] [--chunk MB] [--adapter] file.pgn");
+			System.exit(2);
+		}
+		final PgnReplay replay = new PgnReplay(threads, chunkBytes, adapter);
+		final Path file = archive;
+		final ReplayStatistics[] statistics = new ReplayStatistics[1];
+		final Throwable[] failure = new Throwable[1]; //Whatever ended the replay thread early
+
+		//The replay runs on a thread of its own while this one reports its progress
+		Thread replayThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					statistics[0] = replay.replay(file);
+				} catch(IOException | RuntimeException | Error e) {
+					failure[0] = e;
+				}
+			}
+		}, "Replay");
+		replayThread.start();
+
+		do {
+			replayThread.join(1000);
+			System.out.println(replay.formatProgress());
+		} while(replayThread.isAlive());
+
+		replay.shutdown();
+
+		//Rethrow what stopped the replay rather than print statistics it never produced
+		if(failure[0] instanceof IOException) {
+			throw (IOException) failure[0];
+		}
+		if(failure[0] instanceof RuntimeException) {
+			throw (RuntimeException) failure[0];
+		}
+		if(failure[0] != null) {
+			throw (Error) failure[0];
+		}
+		statistics[0].print(System.out);
+	}
+
+	/**
+	 * Replays a piece of the archive, splitting it at the game boundary
+	 * nearest its middle while it is larger than a chunk
+	 */
+	private class ReplayTask extends RecursiveTask<ReplayStatistics> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long start; //Offset of the first game, or of the archive's start
+		private final long end;
+
+		ReplayTask(long start, long end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected ReplayStatistics compute() {
+			try {
+				if(end - start > chunkBytes) {
+					long middle = findGameStart(start + (end - start) / 2, end);
+
+					if(middle < end) {
+						ReplayTask second = new ReplayTask(middle, end);
+						second.fork();
+						ReplayStatistics statistics = new ReplayTask(start, middle).compute();
+						statistics.merge(second.join());
+						return statistics;
+					}
+				}
+				return replayChunk(start, end);
+			} catch(IOException e) {
+				throw new ReplayFailure(e);
+			}
+		}
+	}
+
+	/**
+	 * Carries a read failure out of a replay task
+	 */
+	private static class ReplayFailure extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		ReplayFailure(IOException cause) {
+			super(cause);
+		}
+	}
+
+	/**
+	 * Reads a region of a file with positional reads, so any number of
+	 * threads can read their own regions of the same channel at once
+	 */
+	private static class RegionChannel implements ReadableByteChannel {
+
+		private final FileChannel file;
+		private long position; //Offset of the next byte to read
+		private final long end;
+
+		RegionChannel(FileChannel file, long start, long end) {
+			this.file = file;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read(ByteBuffer buffer) throws IOException {
+			if(position >= end) {
+				return -1;
+			}
+			int limit = buffer.limit();
+			buffer.limit((int) Math.min(limit, buffer.position() + end - position));
+
+			try {
+				int count = file.read(buffer, position);
+
+				if(count > 0) {
+					position += count;
+				}
+				return count;
+			} finally {
+				buffer.limit(limit);
+			}
+		}
+
+		@Override
+		public boolean isOpen() {
+			return file.isOpen();
+		}
+
+		//The file is shared by every region and closed once the replay is done
+		@Override
+		public void close() {
+		}
+	}
+}
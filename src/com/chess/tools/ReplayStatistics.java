@@ -0,0 +1,217 @@
+package com.chess.tools;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.chess.engine.Move;
+import com.chess.engine.Position;
+import com.chess.enums.GameStatus;
+import com.chess.notation.PgnGame;
+
+/**
+ * Totals of a PGN archive replay: games, moves, termination markers, the
+ * status each game ended in, and the games that couldn't be replayed or whose
+ * result contradicts the final position. Each replay task keeps its own and
+ * the totals of the tasks are merged once they finish.
+ *
+ * Date: 10/17/2026
+ *
+ */
+public class ReplayStatistics {
+
+	public static final int MAX_PROBLEMS = 100; //Problems described, the rest are only counted
+
+	private static final String[] RESULTS = {"1-0", "0-1", "1/2-1/2", "*"}; //Termination markers counted
+	private static final int NO_RESULT = RESULTS.length; //Index counting games without a marker
+
+	private long games;
+	private long moves;
+	private int longestGame; //Plies of the longest game
+	private long illegalGames;
+	private long resultMismatches; //Legal games whose marker contradicts the final position
+	private long adapterMismatches; //Moves not found on the reference grid of their position
+	private final long[] results = new long[RESULTS.length + 1];
+	private final long[] finalStatuses = new long[GameStatus.values().length];
+	private final List<String> problems = new ArrayList<String>();
+
+	/**
+	 * Counts a replayed game
+	 *
+	 * @param game			The game read from the archive
+	 * @param finalStatus	The status of the position the game ended in, or null if it isn't legal
+	 * @param sideToMove	The player to move in the final position
+	 * @param offset		Byte offset of the archive the game was read near
+	 */
+	void addGame(PgnGame game, GameStatus finalStatus, int sideToMove, long offset) {
+		games++;
+		moves += game.getMoveCount();
+		longestGame = Math.max(longestGame, game.getMoveCount());
+
+		int result = NO_RESULT;
+
+		for(int i = 0; i < RESULTS.length; i++) {
+			if(RESULTS[i].equals(game.getResult())) {
+				result = i;
+			}
+		}
+		results[result]++;
+
+		if(!game.isLegal()) {
+			illegalGames++;
+			addProblem(game, offset, "illegal move " + game.getIllegalMove() + " at ply " + game.getIllegalMovePly());
+			return;
+		}
+		finalStatuses[finalStatus.ordinal()]++;
+
+		if(contradicts(game.getResult(), finalStatus, sideToMove)) {
+			resultMismatches++;
+			addProblem(game, offset, "result " + game.getResult() + " after " + finalStatus);
+		}
+	}
+
+	/**
+	 * Counts a move not found on the reference grid of its position
+	 */
+	void addAdapterMismatch(PgnGame game, int ply, long offset) {
+		adapterMismatches++;
+		addProblem(game, offset, "Reference grid lacks " + Move.toString(game.getMove(ply)) + " at ply " + ply);
+	}
+
+	/**
+	 * Adds the totals of another replay to these
+	 *
+	 * @param other	The totals to add
+	 */
+	void merge(ReplayStatistics other) {
+		games += other.games;
+		moves += other.moves;
+		longestGame = Math.max(longestGame, other.longestGame);
+		illegalGames += other.illegalGames;
+		resultMismatches += other.resultMismatches;
+		adapterMismatches += other.adapterMismatches;
+
+		for(int i = 0; i < results.length; i++) {
+			results[i] += other.results[i];
+		}
+		for(int i = 0; i < finalStatuses.length; i++) {
+			finalStatuses[i] += other.finalStatuses[i];
+		}
+		for(String problem : other.problems) {
+			if(problems.size() < MAX_PROBLEMS) {
+				problems.add(problem);
+			}
+		}
+	}
+
+	public long getGames() {
+		return games;
+	}
+
+	public long getMoves() {
+		return moves;
+	}
+
+	public int getLongestGame() {
+		return longestGame;
+	}
+
+	public long getIllegalGames() {
+		return illegalGames;
+	}
+
+	public long getResultMismatches() {
+		return resultMismatches;
+	}
+
+	public long getAdapterMismatches() {
+		return adapterMismatches;
+	}
+
+	/**
+	 * @param result	A termination marker such as "1-0", or null for games without one
+	 * @return			Number of games ending with the marker
+	 */
+	public long getResultCount(String result) {
+		for(int i = 0; i < RESULTS.length; i++) {
+			if(RESULTS[i].equals(result)) {
+				return results[i];
+			}
+		}
+		return result == null ? results[NO_RESULT] : 0;
+	}
+
+	/**
+	 * @param status	A game status
+	 * @return			Number of legal games whose final position has the status
+	 */
+	public long getFinalStatusCount(GameStatus status) {
+		return finalStatuses[status.ordinal()];
+	}
+
+	/**
+	 * @return The first problems found, at most MAX_PROBLEMS of them
+	 */
+	public List<String> getProblems() {
+		return Collections.unmodifiableList(problems);
+	}
+
+	/**
+	 * Prints the totals, one line per kind
+	 *
+	 * @param out	Stream to print the totals to
+	 */
+	public void print(PrintStream out) {
+		out.println(games + " games, " + moves + " moves, " + (games == 0 ? 0 : moves / games) + " plies per game, longest " + longestGame);
+
+		StringBuilder line = new StringBuilder("Results:");
+
+		for(int i = 0; i < RESULTS.length; i++) {
+			line.append(' ').append(RESULTS[i]).append(' ').append(results[i]);
+		}
+		out.println(line.append(", none ").append(results[NO_RESULT]));
+
+		line = new StringBuilder("Final positions:");
+
+		for(GameStatus status : GameStatus.values()) {
+			if(finalStatuses[status.ordinal()] > 0) {
+				line.append(' ').append(status).append(' ').append(finalStatuses[status.ordinal()]);
+			}
+		}
+		out.println(line);
+		out.println(illegalGames + " illegal games, " + resultMismatches + " result mismatches, " + adapterMismatches + " reference grid mismatches");
+
+		for(String problem : problems) {
+			out.println("  " + problem);
+		}
+	}
+
+	/**
+	 * @return Whether the termination marker can't be the outcome of the final position
+	 */
+	private static boolean contradicts(String result, GameStatus finalStatus, int sideToMove) {
+		if(result == null || result.equals("*")) {
+			return false;
+		}
+		boolean decisive = !result.equals("1/2-1/2");
+
+		switch(finalStatus) {
+		case CHECKMATE:
+			//The player to move is the one checkmated
+			return !result.equals(sideToMove == Position.WHITE ? "0-1" : "1-0");
+		case STALEMATE:
+		case DRAW_BY_INSUFFICIENT_MATERIAL:
+			return decisive;
+		default:
+			return false;
+		}
+	}
+
+	private void addProblem(PgnGame game, long offset, String description) {
+		if(problems.size() < MAX_PROBLEMS) {
+			problems.add("Game near byte " + offset + " (" + game.getTag("White") + " - " + game.getTag("Black")
+					+ ", " + game.getTag("Event") + " round " + game.getTag("Round") + "): " + description);
+		}
+	}
+}